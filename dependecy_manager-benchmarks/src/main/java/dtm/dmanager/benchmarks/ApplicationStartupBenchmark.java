@@ -0,0 +1,83 @@
+package dtm.dmanager.benchmarks;
+
+import java.io.IOException;
+import java.net.URLClassLoader;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dtm.dmanager.core.ApplicationManager;
+import dtm.dmanager.manager.ApplicationManagerRunner;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ApplicationStartupBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int beanCount;
+
+    @Param({"false", "true"})
+    private boolean eagerInitialization;
+
+    @Param({"true", "false"})
+    private boolean indexed;
+
+    private SyntheticClasspath syntheticClasspath;
+    private URLClassLoader classLoader;
+    private Class<?> mainClass;
+    private ApplicationManager applicationManager;
+
+    @Setup(Level.Trial)
+    public void generateClasspath() throws IOException{
+        syntheticClasspath = SyntheticClasspath.generate(beanCount);
+    }
+
+    @Setup(Level.Iteration)
+    public void loadClasspath() throws ClassNotFoundException{
+        classLoader = syntheticClasspath.newClassLoader(indexed);
+        mainClass = Class.forName(SyntheticClasspath.MAIN_CLASS, false, classLoader);
+    }
+
+    @Setup(Level.Invocation)
+    public void createApplicationManager(){
+        applicationManager = ApplicationManagerRunner.newApplicationManager();
+        applicationManager.getConfiguration().setEagerInitialization(eagerInitialization);
+    }
+
+    @TearDown(Level.Invocation)
+    public void closeApplicationManager(){
+        applicationManager.close();
+    }
+
+    @TearDown(Level.Iteration)
+    public void unloadClasspath() throws IOException{
+        classLoader.close();
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteClasspath() throws IOException{
+        syntheticClasspath.close();
+    }
+
+    @Benchmark
+    public ApplicationManager run(){
+        applicationManager.run(mainClass);
+        return applicationManager;
+    }
+}
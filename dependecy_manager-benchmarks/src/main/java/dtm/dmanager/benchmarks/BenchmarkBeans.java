@@ -0,0 +1,350 @@
+package dtm.dmanager.benchmarks;
+
+import java.util.Set;
+
+import dtm.dmanager.core.annotations.Inject;
+import dtm.dmanager.core.annotations.Injectable;
+import dtm.dmanager.enums.DependencyCreatorType;
+
+public final class BenchmarkBeans {
+
+    private BenchmarkBeans(){}
+
+    public static Set<Class<?>> all(){
+        return Set.of(
+            MemoryStore.class, DiskStore.class,
+            Dep0.class, Dep1.class, Dep2.class, Dep3.class, Dep4.class, Dep5.class, Dep6.class, Dep7.class, Dep8.class, Dep9.class,
+            Dep10.class, Dep11.class, Dep12.class, Dep13.class, Dep14.class, Dep15.class, Dep16.class, Dep17.class, Dep18.class, Dep19.class,
+            Prototype0.class, Prototype5.class, Prototype20.class,
+            Chain0.class, Chain1.class, Chain2.class, Chain3.class, Chain4.class, Chain5.class, Chain6.class, Chain7.class,
+            Chain8.class, Chain9.class, Chain10.class, Chain11.class, Chain12.class, Chain13.class, Chain14.class, Chain15.class
+        );
+    }
+
+    public interface Store {}
+
+    @Injectable(qualifier = "memory")
+    public static class MemoryStore implements Store {}
+
+    @Injectable(qualifier = "disk")
+    public static class DiskStore implements Store {}
+
+    @Injectable
+    public static class Dep0 {}
+
+    @Injectable
+    public static class Dep1 {}
+
+    @Injectable
+    public static class Dep2 {}
+
+    @Injectable
+    public static class Dep3 {}
+
+    @Injectable
+    public static class Dep4 {}
+
+    @Injectable
+    public static class Dep5 {}
+
+    @Injectable
+    public static class Dep6 {}
+
+    @Injectable
+    public static class Dep7 {}
+
+    @Injectable
+    public static class Dep8 {}
+
+    @Injectable
+    public static class Dep9 {}
+
+    @Injectable
+    public static class Dep10 {}
+
+    @Injectable
+    public static class Dep11 {}
+
+    @Injectable
+    public static class Dep12 {}
+
+    @Injectable
+    public static class Dep13 {}
+
+    @Injectable
+    public static class Dep14 {}
+
+    @Injectable
+    public static class Dep15 {}
+
+    @Injectable
+    public static class Dep16 {}
+
+    @Injectable
+    public static class Dep17 {}
+
+    @Injectable
+    public static class Dep18 {}
+
+    @Injectable
+    public static class Dep19 {}
+
+    @Injectable(createStrategy = DependencyCreatorType.PROTOTYPE)
+    public static class Prototype0 {}
+
+    @Injectable(createStrategy = DependencyCreatorType.PROTOTYPE)
+    public static class Prototype5 {
+        @Inject
+        private Dep0 dep0;
+        @Inject
+        private Dep1 dep1;
+        @Inject
+        private Dep2 dep2;
+        @Inject
+        private Dep3 dep3;
+        @Inject
+        private Dep4 dep4;
+    }
+
+    @Injectable(createStrategy = DependencyCreatorType.PROTOTYPE)
+    public static class Prototype20 {
+        @Inject
+        private Dep0 dep0;
+        @Inject
+        private Dep1 dep1;
+        @Inject
+        private Dep2 dep2;
+        @Inject
+        private Dep3 dep3;
+        @Inject
+        private Dep4 dep4;
+        @Inject
+        private Dep5 dep5;
+        @Inject
+        private Dep6 dep6;
+        @Inject
+        private Dep7 dep7;
+        @Inject
+        private Dep8 dep8;
+        @Inject
+        private Dep9 dep9;
+        @Inject
+        private Dep10 dep10;
+        @Inject
+        private Dep11 dep11;
+        @Inject
+        private Dep12 dep12;
+        @Inject
+        private Dep13 dep13;
+        @Inject
+        private Dep14 dep14;
+        @Inject
+        private Dep15 dep15;
+        @Inject
+        private Dep16 dep16;
+        @Inject
+        private Dep17 dep17;
+        @Inject
+        private Dep18 dep18;
+        @Inject
+        private Dep19 dep19;
+    }
+
+    @Injectable(createStrategy = DependencyCreatorType.PROTOTYPE)
+    public static class Chain0 {}
+
+    @Injectable(createStrategy = DependencyCreatorType.PROTOTYPE)
+    public static class Chain1 {
+        private final Chain0 previous;
+
+        public Chain1(Chain0 previous){
+            this.previous = previous;
+        }
+
+        public Chain0 getPrevious(){
+            return previous;
+        }
+    }
+
+    @Injectable(createStrategy = DependencyCreatorType.PROTOTYPE)
+    public static class Chain2 {
+        private final Chain1 previous;
+
+        public Chain2(Chain1 previous){
+            this.previous = previous;
+        }
+
+        public Chain1 getPrevious(){
+            return previous;
+        }
+    }
+
+    @Injectable(createStrategy = DependencyCreatorType.PROTOTYPE)
+    public static class Chain3 {
+        private final Chain2 previous;
+
+        public Chain3(Chain2 previous){
+            this.previous = previous;
+        }
+
+        public Chain2 getPrevious(){
+            return previous;
+        }
+    }
+
+    @Injectable(createStrategy = DependencyCreatorType.PROTOTYPE)
+    public static class Chain4 {
+        private final Chain3 previous;
+
+        public Chain4(Chain3 previous){
+            this.previous = previous;
+        }
+
+        public Chain3 getPrevious(){
+            return previous;
+        }
+    }
+
+    @Injectable(createStrategy = DependencyCreatorType.PROTOTYPE)
+    public static class Chain5 {
+        private final Chain4 previous;
+
+        public Chain5(Chain4 previous){
+            this.previous = previous;
+        }
+
+        public Chain4 getPrevious(){
+            return previous;
+        }
+    }
+
+    @Injectable(createStrategy = DependencyCreatorType.PROTOTYPE)
+    public static class Chain6 {
+        private final Chain5 previous;
+
+        public Chain6(Chain5 previous){
+            this.previous = previous;
+        }
+
+        public Chain5 getPrevious(){
+            return previous;
+        }
+    }
+
+    @Injectable(createStrategy = DependencyCreatorType.PROTOTYPE)
+    public static class Chain7 {
+        private final Chain6 previous;
+
+        public Chain7(Chain6 previous){
+            this.previous = previous;
+        }
+
+        public Chain6 getPrevious(){
+            return previous;
+        }
+    }
+
+    @Injectable(createStrategy = DependencyCreatorType.PROTOTYPE)
+    public static class Chain8 {
+        private final Chain7 previous;
+
+        public Chain8(Chain7 previous){
+            this.previous = previous;
+        }
+
+        public Chain7 getPrevious(){
+            return previous;
+        }
+    }
+
+    @Injectable(createStrategy = DependencyCreatorType.PROTOTYPE)
+    public static class Chain9 {
+        private final Chain8 previous;
+
+        public Chain9(Chain8 previous){
+            this.previous = previous;
+        }
+
+        public Chain8 getPrevious(){
+            return previous;
+        }
+    }
+
+    @Injectable(createStrategy = DependencyCreatorType.PROTOTYPE)
+    public static class Chain10 {
+        private final Chain9 previous;
+
+        public Chain10(Chain9 previous){
+            this.previous = previous;
+        }
+
+        public Chain9 getPrevious(){
+            return previous;
+        }
+    }
+
+    @Injectable(createStrategy = DependencyCreatorType.PROTOTYPE)
+    public static class Chain11 {
+        private final Chain10 previous;
+
+        public Chain11(Chain10 previous){
+            this.previous = previous;
+        }
+
+        public Chain10 getPrevious(){
+            return previous;
+        }
+    }
+
+    @Injectable(createStrategy = DependencyCreatorType.PROTOTYPE)
+    public static class Chain12 {
+        private final Chain11 previous;
+
+        public Chain12(Chain11 previous){
+            this.previous = previous;
+        }
+
+        public Chain11 getPrevious(){
+            return previous;
+        }
+    }
+
+    @Injectable(createStrategy = DependencyCreatorType.PROTOTYPE)
+    public static class Chain13 {
+        private final Chain12 previous;
+
+        public Chain13(Chain12 previous){
+            this.previous = previous;
+        }
+
+        public Chain12 getPrevious(){
+            return previous;
+        }
+    }
+
+    @Injectable(createStrategy = DependencyCreatorType.PROTOTYPE)
+    public static class Chain14 {
+        private final Chain13 previous;
+
+        public Chain14(Chain13 previous){
+            this.previous = previous;
+        }
+
+        public Chain13 getPrevious(){
+            return previous;
+        }
+    }
+
+    @Injectable(createStrategy = DependencyCreatorType.PROTOTYPE)
+    public static class Chain15 {
+        private final Chain14 previous;
+
+        public Chain15(Chain14 previous){
+            this.previous = previous;
+        }
+
+        public Chain14 getPrevious(){
+            return previous;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package dtm.dmanager.benchmarks;
+
+import java.util.HashSet;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dtm.dmanager.core.DependencyManager;
+import dtm.dmanager.manager.DependencyManagerApplication;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ConstructorChainBenchmark {
+
+    private DependencyManager dependencyManager;
+
+    @Setup
+    public void setup(){
+        dependencyManager = new DependencyManagerApplication(null, new HashSet<>(BenchmarkBeans.all()));
+        dependencyManager.initialize();
+    }
+
+    @Benchmark
+    public Object createDeepChain(){
+        return dependencyManager.getDependency(BenchmarkBeans.Chain15.class).getDependency();
+    }
+}
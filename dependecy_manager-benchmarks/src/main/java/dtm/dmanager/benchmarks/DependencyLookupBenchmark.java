@@ -0,0 +1,70 @@
+package dtm.dmanager.benchmarks;
+
+import java.util.HashSet;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dtm.dmanager.core.DependencyManager;
+import dtm.dmanager.core.Provider;
+import dtm.dmanager.manager.DependencyManagerApplication;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class DependencyLookupBenchmark {
+
+    private DependencyManager dependencyManager;
+    private Provider<BenchmarkBeans.Dep0> dep0Provider;
+
+    @Setup
+    public void setup(){
+        dependencyManager = new DependencyManagerApplication(null, new HashSet<>(BenchmarkBeans.all()));
+        dependencyManager.initialize();
+        dependencyManager.getDependency(BenchmarkBeans.Dep0.class);
+        dependencyManager.getDependency(BenchmarkBeans.Store.class, "disk");
+        dep0Provider = dependencyManager.getProvider(BenchmarkBeans.Dep0.class);
+    }
+
+    @Benchmark
+    public Object singletonByType(){
+        return dependencyManager.getDependency(BenchmarkBeans.Dep0.class).getDependency();
+    }
+
+    @Benchmark
+    public Object singletonByQualifier(){
+        return dependencyManager.getDependency(BenchmarkBeans.Store.class, "disk").getDependency();
+    }
+
+    @Benchmark
+    public Object typedSingletonByType(){
+        return dependencyManager.get(BenchmarkBeans.Dep0.class);
+    }
+
+    @Benchmark
+    public Object typedSingletonByQualifier(){
+        return dependencyManager.get(BenchmarkBeans.Store.class, "disk");
+    }
+
+    @Benchmark
+    public Object singletonByProvider(){
+        return dep0Provider.get();
+    }
+
+    @Benchmark
+    public Object missingDependency(){
+        return dependencyManager.getDependency(Runnable.class).getDependency();
+    }
+}
@@ -0,0 +1,66 @@
+package dtm.dmanager.benchmarks;
+
+import java.util.HashSet;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dtm.dmanager.core.DependencyManager;
+import dtm.dmanager.core.DependencyManagerConfiguration;
+import dtm.dmanager.enums.DependencyFactoryMode;
+import dtm.dmanager.manager.DependencyManagerApplication;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class PrototypeCreationBenchmark {
+
+    @Param({"0", "5", "20"})
+    private int injectedFields;
+
+    @Param({"REFLECTION", "METHOD_HANDLE"})
+    private DependencyFactoryMode factoryMode;
+
+    private DependencyManager dependencyManager;
+    private Class<?> prototypeClass;
+
+    @Setup
+    public void setup(){
+        DependencyManagerConfiguration configuration = DependencyManagerConfiguration.builder()
+            .factoryMode(factoryMode)
+            .build();
+        dependencyManager = new DependencyManagerApplication(null, new HashSet<>(BenchmarkBeans.all()), configuration);
+        dependencyManager.initialize();
+
+        switch (injectedFields) {
+            case 0:
+                prototypeClass = BenchmarkBeans.Prototype0.class;
+                break;
+            case 5:
+                prototypeClass = BenchmarkBeans.Prototype5.class;
+                break;
+            default:
+                prototypeClass = BenchmarkBeans.Prototype20.class;
+                break;
+        }
+        dependencyManager.getDependency(prototypeClass);
+    }
+
+    @Benchmark
+    public Object createPrototype(){
+        return dependencyManager.getDependency(prototypeClass).getDependency();
+    }
+}
@@ -0,0 +1,53 @@
+package dtm.dmanager.benchmarks;
+
+import java.util.HashSet;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dtm.dmanager.core.DependencyManager;
+import dtm.dmanager.enums.DependencyCreatorType;
+import dtm.dmanager.manager.DependencyManagerApplication;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class RegistrationBenchmark {
+
+    private DependencyManager dependencyManager;
+    private BenchmarkBeans.MemoryStore memoryStore;
+    private BenchmarkBeans.DiskStore diskStore;
+
+    @Setup(Level.Iteration)
+    public void setup(){
+        dependencyManager = new DependencyManagerApplication(null, new HashSet<>(BenchmarkBeans.all()));
+        dependencyManager.initialize();
+        memoryStore = new BenchmarkBeans.MemoryStore();
+        diskStore = new BenchmarkBeans.DiskStore();
+    }
+
+    @Benchmark
+    public DependencyManager addDependency(){
+        dependencyManager.addDependency(memoryStore);
+        return dependencyManager;
+    }
+
+    @Benchmark
+    public DependencyManager addQualifiedDependency(){
+        dependencyManager.addDependency(diskStore, DependencyCreatorType.SINGLETON, "disk");
+        return dependencyManager;
+    }
+}
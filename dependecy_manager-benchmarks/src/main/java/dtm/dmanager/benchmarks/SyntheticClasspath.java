@@ -0,0 +1,133 @@
+package dtm.dmanager.benchmarks;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+public final class SyntheticClasspath implements AutoCloseable {
+
+    public static final String PACKAGE_NAME = "synthetic";
+    public static final String MAIN_CLASS = PACKAGE_NAME + ".SyntheticMain";
+
+    private static final int CHAIN_LENGTH = 10;
+
+    private final Path root;
+    private final Path classesDirectory;
+    private final Path indexDirectory;
+
+    private SyntheticClasspath(Path root, Path classesDirectory, Path indexDirectory){
+        this.root = root;
+        this.classesDirectory = classesDirectory;
+        this.indexDirectory = indexDirectory;
+    }
+
+    public static SyntheticClasspath generate(int beanCount) throws IOException{
+        Path root = Files.createTempDirectory("dmanager-synthetic-");
+        Path sourcesDirectory = Files.createDirectories(root.resolve("src").resolve(PACKAGE_NAME));
+        Path classesDirectory = Files.createDirectories(root.resolve("classes"));
+        Path indexDirectory = Files.createDirectories(root.resolve("index"));
+
+        List<String> sourceFiles = new ArrayList<>();
+        for (int i = 0; i < beanCount; i++) {
+            StringBuilder source = new StringBuilder();
+            source.append("package ").append(PACKAGE_NAME).append(";\n\n");
+            source.append("@dtm.dmanager.core.annotations.Injectable\n");
+            source.append("public class Bean").append(i).append(" {\n");
+            if(i % CHAIN_LENGTH != 0){
+                source.append("    @dtm.dmanager.core.annotations.Inject\n");
+                source.append("    private Bean").append(i - 1).append(" previous;\n");
+            }
+            source.append("}\n");
+            sourceFiles.add(write(sourcesDirectory.resolve("Bean" + i + ".java"), source.toString()));
+        }
+
+        sourceFiles.add(write(sourcesDirectory.resolve("SyntheticMain.java"),
+            "package " + PACKAGE_NAME + ";\n\n"
+            + "@dtm.dmanager.core.annotations.Bootable\n"
+            + "public class SyntheticMain {\n"
+            + "    @dtm.dmanager.core.annotations.Inject\n"
+            + "    private Bean" + (beanCount - 1) + " last;\n\n"
+            + "    public void initialize(){}\n"
+            + "}\n"
+        ));
+
+        sourceFiles.add(write(sourcesDirectory.resolve("SyntheticClassIndex.java"),
+            "package " + PACKAGE_NAME + ";\n\n"
+            + "public class SyntheticClassIndex implements dtm.dmanager.core.ApplicationClassIndex {\n"
+            + "    @Override\n"
+            + "    public java.util.List<String> getInjectableClasses() {\n"
+            + "        java.util.List<String> classes = new java.util.ArrayList<>();\n"
+            + "        for (int i = 0; i < " + beanCount + "; i++) {\n"
+            + "            classes.add(\"" + PACKAGE_NAME + ".Bean\" + i);\n"
+            + "        }\n"
+            + "        return classes;\n"
+            + "    }\n\n"
+            + "    @Override\n"
+            + "    public java.util.List<String> getSetupClasses() {\n"
+            + "        return java.util.List.of();\n"
+            + "    }\n\n"
+            + "    @Override\n"
+            + "    public java.util.List<String> getBootableClasses() {\n"
+            + "        return java.util.List.of(\"" + MAIN_CLASS + "\");\n"
+            + "    }\n"
+            + "}\n"
+        ));
+
+        Path servicesDirectory = Files.createDirectories(indexDirectory.resolve("META-INF").resolve("services"));
+        write(servicesDirectory.resolve("dtm.dmanager.core.ApplicationClassIndex"), PACKAGE_NAME + ".SyntheticClassIndex\n");
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if(compiler == null){
+            throw new IllegalStateException("Synthetic classpath requires a JDK with javax.tools available");
+        }
+
+        List<String> arguments = new ArrayList<>(List.of(
+            "-proc:none",
+            "-classpath", System.getProperty("java.class.path"),
+            "-d", classesDirectory.toString()
+        ));
+        arguments.addAll(sourceFiles);
+        int result = compiler.run(null, null, null, arguments.toArray(new String[0]));
+        if(result != 0){
+            throw new IllegalStateException("Synthetic classpath compilation failed for " + beanCount + " beans");
+        }
+
+        return new SyntheticClasspath(root, classesDirectory, indexDirectory);
+    }
+
+    public URLClassLoader newClassLoader(boolean indexed){
+        try {
+            URL[] urls = indexed
+                ? new URL[]{ classesDirectory.toUri().toURL(), indexDirectory.toUri().toURL() }
+                : new URL[]{ classesDirectory.toUri().toURL() };
+            return new URLClassLoader(urls, SyntheticClasspath.class.getClassLoader());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try (Stream<Path> paths = Files.walk(root)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    private static String write(Path file, String content) throws IOException{
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+        return file.toString();
+    }
+}
@@ -0,0 +1,178 @@
+package dtm.dmanager.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+
+@SupportedAnnotationTypes({
+    ApplicationClassIndexProcessor.INJECTABLE,
+    ApplicationClassIndexProcessor.SETUP,
+    ApplicationClassIndexProcessor.BOOTABLE
+})
+@SupportedOptions(ApplicationClassIndexProcessor.INDEX_OPTION)
+public class ApplicationClassIndexProcessor extends AbstractProcessor {
+
+    static final String INJECTABLE = "dtm.dmanager.core.annotations.Injectable";
+    static final String SETUP = "dtm.dmanager.core.annotations.Setup";
+    static final String BOOTABLE = "dtm.dmanager.core.annotations.Bootable";
+    static final String INDEX_OPTION = "dmanager.index";
+
+    private static final String INDEX_INTERFACE = "dtm.dmanager.core.ApplicationClassIndex";
+    private static final String DEFAULT_PACKAGE = "dtm.dmanager.generated";
+    private static final String DEFAULT_SIMPLE_NAME = "GeneratedApplicationClassIndex_";
+    private static final int MAX_CHUNK_LENGTH = 16_000;
+
+    private final Set<String> injectableClasses = new TreeSet<>();
+    private final Set<String> setupClasses = new TreeSet<>();
+    private final Set<String> bootableClasses = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations) {
+            Set<String> target = getTargetSet(annotation.getQualifiedName().toString());
+            if(target == null){
+                continue;
+            }
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if(element.getKind() == ElementKind.CLASS){
+                    target.add(processingEnv.getElementUtils().getBinaryName((TypeElement) element).toString());
+                }
+            }
+        }
+
+        if(roundEnv.processingOver() && !(injectableClasses.isEmpty() && setupClasses.isEmpty() && bootableClasses.isEmpty())){
+            writeIndex();
+        }
+        return false;
+    }
+
+    private Set<String> getTargetSet(String annotationName){
+        switch (annotationName) {
+            case INJECTABLE:
+                return injectableClasses;
+            case SETUP:
+                return setupClasses;
+            case BOOTABLE:
+                return bootableClasses;
+            default:
+                return null;
+        }
+    }
+
+    private void writeIndex(){
+        String indexName = processingEnv.getOptions().get(INDEX_OPTION);
+        if(indexName == null || indexName.isBlank()){
+            indexName = getDefaultIndexName();
+        }
+        int lastDot = indexName.lastIndexOf('.');
+        String packageName = (lastDot > 0) ? indexName.substring(0, lastDot) : null;
+        String simpleName = indexName.substring(lastDot + 1);
+
+        try {
+            JavaFileObject sourceFile = processingEnv.getFiler().createSourceFile(indexName);
+            try (Writer writer = sourceFile.openWriter()) {
+                if(packageName != null){
+                    writer.write("package " + packageName + ";\n\n");
+                }
+                writer.write("public final class " + simpleName + " implements " + INDEX_INTERFACE + " {\n\n");
+                writeMethod(writer, "getInjectableClasses", injectableClasses);
+                writeMethod(writer, "getSetupClasses", setupClasses);
+                writeMethod(writer, "getBootableClasses", bootableClasses);
+                writeClassNamesMethod(writer);
+                writer.write("}\n");
+            }
+
+            FileObject serviceFile = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", "META-INF/services/" + INDEX_INTERFACE);
+            try (Writer writer = serviceFile.openWriter()) {
+                writer.write(indexName + "\n");
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Application class index can not be generated: " + e.getMessage());
+        }
+    }
+
+    private String getDefaultIndexName(){
+        Set<String> classNames = new TreeSet<>(injectableClasses);
+        classNames.addAll(setupClasses);
+        classNames.addAll(bootableClasses);
+
+        String packageName = null;
+        int hash = 0;
+        for (String className : classNames) {
+            int lastDot = className.lastIndexOf('.');
+            String classPackage = (lastDot > 0) ? className.substring(0, lastDot) : "";
+            packageName = (packageName == null) ? classPackage : commonPackage(packageName, classPackage);
+            hash = 31 * hash + className.hashCode();
+        }
+        if(packageName == null || packageName.isEmpty()){
+            packageName = DEFAULT_PACKAGE;
+        }
+        return packageName + "." + DEFAULT_SIMPLE_NAME + String.format("%08x", hash);
+    }
+
+    private String commonPackage(String first, String second){
+        String[] firstParts = first.split("\\.");
+        String[] secondParts = second.split("\\.");
+        StringBuilder common = new StringBuilder();
+        for (int i = 0; i < Math.min(firstParts.length, secondParts.length) && firstParts[i].equals(secondParts[i]); i++) {
+            common.append((common.length() == 0) ? "" : ".").append(firstParts[i]);
+        }
+        return common.toString();
+    }
+
+    private void writeMethod(Writer writer, String methodName, Set<String> classNames) throws IOException{
+        writer.write("    @Override\n");
+        writer.write("    public java.util.List<String> " + methodName + "() {\n");
+        writer.write("        return classNames(");
+        StringBuilder chunk = new StringBuilder();
+        boolean first = true;
+        for (String className : classNames) {
+            if(chunk.length() > 0 && chunk.length() + className.length() >= MAX_CHUNK_LENGTH){
+                writeChunk(writer, chunk, first);
+                first = false;
+                chunk.setLength(0);
+            }
+            chunk.append((chunk.length() == 0) ? "" : ",").append(className);
+        }
+        if(chunk.length() > 0){
+            writeChunk(writer, chunk, first);
+            first = false;
+        }
+        writer.write(first ? ");\n" : "\n        );\n");
+        writer.write("    }\n\n");
+    }
+
+    private void writeChunk(Writer writer, StringBuilder chunk, boolean first) throws IOException{
+        writer.write(first ? "\n            " : ",\n            ");
+        writer.write("\"" + chunk + "\"");
+    }
+
+    private void writeClassNamesMethod(Writer writer) throws IOException{
+        writer.write("    private static java.util.List<String> classNames(String... chunks) {\n");
+        writer.write("        java.util.List<String> classNames = new java.util.ArrayList<>();\n");
+        writer.write("        for (String chunk : chunks) {\n");
+        writer.write("            classNames.addAll(java.util.Arrays.asList(chunk.split(\",\")));\n");
+        writer.write("        }\n");
+        writer.write("        return java.util.Collections.unmodifiableList(classNames);\n");
+        writer.write("    }\n");
+    }
+}
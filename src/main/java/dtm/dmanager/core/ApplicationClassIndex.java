@@ -0,0 +1,9 @@
+package dtm.dmanager.core;
+
+import java.util.List;
+
+public interface ApplicationClassIndex {
+    List<String> getInjectableClasses();
+    List<String> getSetupClasses();
+    List<String> getBootableClasses();
+}
@@ -1,8 +1,14 @@
 package dtm.dmanager.core;
 
-public interface ApplicationManager {
+public interface ApplicationManager extends AutoCloseable {
     void run();
     void run(Class<?> mainClass);
     BeansManagerBuilder getBeansManagerBuilder();
     DependencyManager getDependencyManager();
+    DependencyManagerConfiguration getConfiguration();
+    SetupReport getSetupReport();
+    ReadinessReport getReadinessReport();
+
+    @Override
+    void close();
 }
@@ -0,0 +1,17 @@
+package dtm.dmanager.core;
+
+import java.time.Duration;
+
+import dtm.dmanager.enums.DependencyCreatorType;
+
+public interface BeanCreationEvent {
+    Class<?> getDependencyClass();
+    String getQualifier();
+    DependencyCreatorType getCreatorStrategy();
+    long getStartNanos();
+    Duration getDuration();
+    long getAllocatedBytes();
+    int getDepth();
+    String getThreadName();
+    boolean isCreated();
+}
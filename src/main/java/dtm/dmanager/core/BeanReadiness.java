@@ -0,0 +1,14 @@
+package dtm.dmanager.core;
+
+import java.time.Duration;
+
+import dtm.dmanager.enums.ReadinessState;
+
+public interface BeanReadiness {
+    String getName();
+    Class<?> getBeanClass();
+    String getQualifier();
+    ReadinessState getState();
+    Duration getElapsed();
+    Throwable getFailure();
+}
@@ -1,26 +1,155 @@
 package dtm.dmanager.core;
 
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import dtm.dmanager.enums.DependencyCreatorType;
 import dtm.dmanager.exceptions.DependencyManagerInitializeException;
 
-public interface DependencyManager {
+public interface DependencyManager extends AutoCloseable {
     void initialize() throws DependencyManagerInitializeException;
     void initialize(Class<?>... classToAdd) throws DependencyManagerInitializeException;
 
     boolean isInitialized();
 
+    default WarmUpReport warmUp(){
+        throw new UnsupportedOperationException("warmUp is not supported by " + getClass().getName());
+    }
+
+    default ValidationReport validate(){
+        throw new UnsupportedOperationException("validate is not supported by " + getClass().getName());
+    }
+
     void addDependency(Object dependency);
     void addDependency(Object dependency, DependencyCreatorType strategy);
     void addDependency(Object dependency, DependencyCreatorType strategy, String qualifier);
     void addDependency(Class<? extends Object> dependency);
 
+    default boolean removeDependency(Class<?> dependencyClass){
+        return removeDependency(dependencyClass, "default");
+    }
+
+    default boolean removeDependency(Class<?> dependencyClass, String qualifier){
+        throw new UnsupportedOperationException("removeDependency is not supported by " + getClass().getName());
+    }
+
     DependencyResultGet getDependency(Class<? extends Object> dependencyToCreate, String qualifier);
     DependencyResultGet getDependency(Class<? extends Object> dependencyToCreate);
 
+    default <T> T get(Class<T> dependencyClass){
+        DependencyResultGet result = getDependency(dependencyClass);
+        return (result == null || !result.exists()) ? null : dependencyClass.cast(result.getDependency());
+    }
+
+    default <T> T get(Class<T> dependencyClass, String qualifier){
+        DependencyResultGet result = getDependency(dependencyClass, qualifier);
+        return (result == null || !result.exists()) ? null : dependencyClass.cast(result.getDependency());
+    }
+
+    default <T> T getOrDefault(Class<T> dependencyClass, T defaultValue){
+        T dependency = get(dependencyClass);
+        return (dependency == null) ? defaultValue : dependency;
+    }
+
+    default <T> List<T> getAll(Class<T> dependencyClass){
+        T dependency = get(dependencyClass);
+        return (dependency == null) ? Collections.emptyList() : Collections.singletonList(dependency);
+    }
+
+    default <T> Map<String, T> getAllByQualifier(Class<T> dependencyClass){
+        T dependency = get(dependencyClass);
+        return (dependency == null) ? Collections.emptyMap() : Collections.singletonMap("default", dependency);
+    }
+
+    default <T> Provider<T> getProvider(Class<T> dependencyClass){
+        return getProvider(dependencyClass, "default");
+    }
+
+    default <T> Provider<T> getProvider(Class<T> dependencyClass, String qualifier){
+        DependencyManager dependencyManager = this;
+        return new Provider<T>() {
+            @Override
+            public T get() {
+                return dependencyManager.get(dependencyClass, qualifier);
+            }
+
+            @Override
+            public boolean isAvailable() {
+                DependencyResultGet result = dependencyManager.getDependency(dependencyClass, qualifier);
+                return result != null && result.exists();
+            }
+
+            @Override
+            public Class<T> getDependencyClass() {
+                return dependencyClass;
+            }
+        };
+    }
+
     List<String> getDependencyNameList();
 
+    default <T> PooledDependency<T> borrow(Class<T> dependencyClass){
+        return borrow(dependencyClass, "default");
+    }
+
+    default <T> PooledDependency<T> borrow(Class<T> dependencyClass, String qualifier){
+        return null;
+    }
+
+    default boolean release(Object dependency){
+        return false;
+    }
+
+    default PoolMetrics getPoolMetrics(Class<?> dependencyClass){
+        return null;
+    }
+
+    default Map<Class<?>, PoolMetrics> getPoolMetrics(){
+        return Collections.emptyMap();
+    }
+
+    default boolean isMetricsEnabled(){
+        return false;
+    }
+
+    default void setMetricsEnabled(boolean enabled){
+        if(enabled){
+            throw new UnsupportedOperationException("Metrics are not supported by " + getClass().getName());
+        }
+    }
+
+    default DependencyMetrics getMetrics(Class<?> dependencyClass){
+        return null;
+    }
+
+    default Map<Class<?>, DependencyMetrics> getMetrics(){
+        return Collections.emptyMap();
+    }
+
+    default List<DependencyMetrics> getMostExpensiveDependencies(int limit){
+        return Collections.emptyList();
+    }
+
+    default void resetMetrics(){}
+
+    default DependencyManager createChild(){
+        throw new UnsupportedOperationException("Child containers are not supported by " + getClass().getName());
+    }
+
+    default ScopeContext openScope(){
+        throw new UnsupportedOperationException("Scopes are not supported by " + getClass().getName());
+    }
+
+    default void closeThreadScope(){}
+
     <T> T doCreate(Class<? extends T> reference);
+
+    default ShutdownReport getShutdownReport(){
+        return null;
+    }
+
+    @Override
+    default void close(){}
 }
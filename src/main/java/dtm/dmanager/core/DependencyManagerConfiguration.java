@@ -0,0 +1,77 @@
+package dtm.dmanager.core;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import dtm.dmanager.enums.DependencyFactoryMode;
+import dtm.dmanager.enums.ExecutionMode;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder(toBuilder = true)
+public class DependencyManagerConfiguration {
+    @Builder.Default
+    private DependencyFactoryMode factoryMode = DependencyFactoryMode.REFLECTION;
+
+    @Builder.Default
+    private boolean eagerInitialization = false;
+
+    @Builder.Default
+    private ExecutionMode executionMode = ExecutionMode.DEDICATED_POOL;
+
+    @Builder.Default
+    private int containerParallelism = Runtime.getRuntime().availableProcessors();
+
+    @Builder.Default
+    private Executor containerExecutor = null;
+
+    @Builder.Default
+    private boolean runBootableOnExecutor = false;
+
+    @Builder.Default
+    private int warmUpParallelism = Runtime.getRuntime().availableProcessors();
+
+    @Builder.Default
+    private boolean validateOnInitialize = false;
+
+    @Builder.Default
+    private int setupParallelism = Runtime.getRuntime().availableProcessors();
+
+    @Builder.Default
+    private Executor setupExecutor = null;
+
+    @Builder.Default
+    private boolean failOnSetupError = false;
+
+    @Builder.Default
+    private Duration startupTimeout = null;
+
+    @Builder.Default
+    private Duration shutdownTimeout = null;
+
+    @Builder.Default
+    private boolean registerShutdownHook = false;
+
+    @Builder.Default
+    private boolean metricsEnabled = false;
+
+    @Builder.Default
+    private boolean registerMetricsMBean = false;
+
+    @Builder.Default
+    private int defaultPoolSize = Runtime.getRuntime().availableProcessors() * 4;
+
+    @Builder.Default
+    private Path snapshotFile = null;
+
+    @Builder.Default
+    private List<DependencyManagerListener> listeners = new CopyOnWriteArrayList<>();
+}
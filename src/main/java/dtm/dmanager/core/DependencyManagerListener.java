@@ -0,0 +1,16 @@
+package dtm.dmanager.core;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+public interface DependencyManagerListener {
+    default void onPhase(StartupPhaseEvent event){}
+    default void onBeanCreated(BeanCreationEvent event){}
+    default void onFactoryMethod(FactoryMethodReport report){}
+    default void onStartupCompleted(Duration startupTime){}
+    default void onSnapshotFailure(Path snapshotFile, Throwable failure){}
+    default void onMetricsMBeanFailure(String objectName, Throwable failure){}
+    default void onDestroyFailure(Class<?> beanClass, Throwable failure){}
+    default void onShutdownCompleted(ShutdownReport report){}
+    default void onListenerFailure(DependencyManagerListener listener, Throwable failure){}
+}
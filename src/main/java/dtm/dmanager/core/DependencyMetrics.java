@@ -0,0 +1,16 @@
+package dtm.dmanager.core;
+
+import java.time.Duration;
+
+public interface DependencyMetrics {
+    Class<?> getDependencyClass();
+    long getLookups();
+    long getHits();
+    long getMisses();
+    long getCreations();
+    long getCreationFailures();
+    Duration getTotalCreationTime();
+    Duration getMeanCreationTime();
+    Duration getMaxCreationTime();
+    Duration getCreationTimePercentile(double percentile);
+}
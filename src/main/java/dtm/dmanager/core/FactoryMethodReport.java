@@ -0,0 +1,16 @@
+package dtm.dmanager.core;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+
+public interface FactoryMethodReport {
+    Class<?> getSetupClass();
+    Method getFactoryMethod();
+    String getQualifier();
+    Class<?> getBeanClass();
+    long getStartNanos();
+    Duration getDuration();
+    String getThreadName();
+    boolean isCreated();
+    Throwable getFailure();
+}
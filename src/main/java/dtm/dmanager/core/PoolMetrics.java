@@ -0,0 +1,11 @@
+package dtm.dmanager.core;
+
+public interface PoolMetrics {
+    Class<?> getDependencyClass();
+    int getMaxSize();
+    long getIdleCount();
+    long getHits();
+    long getMisses();
+    long getReturns();
+    long getDiscards();
+}
@@ -0,0 +1,8 @@
+package dtm.dmanager.core;
+
+public interface PooledDependency<T> extends AutoCloseable {
+    T get();
+
+    @Override
+    void close();
+}
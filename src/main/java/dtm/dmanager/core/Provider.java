@@ -0,0 +1,9 @@
+package dtm.dmanager.core;
+
+import java.util.function.Supplier;
+
+public interface Provider<T> extends Supplier<T> {
+    T get();
+    boolean isAvailable();
+    Class<T> getDependencyClass();
+}
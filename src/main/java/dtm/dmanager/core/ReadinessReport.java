@@ -0,0 +1,12 @@
+package dtm.dmanager.core;
+
+import java.time.Duration;
+import java.util.List;
+
+public interface ReadinessReport {
+    boolean isReady();
+    Duration getElapsed();
+    List<BeanReadiness> getBeans();
+    List<BeanReadiness> getPendingBeans();
+    List<BeanReadiness> getFailedBeans();
+}
@@ -0,0 +1,14 @@
+package dtm.dmanager.core;
+
+import java.util.concurrent.Callable;
+
+public interface ScopeContext extends AutoCloseable {
+    void run(Runnable action);
+    <T> T call(Callable<T> action) throws Exception;
+    Runnable wrap(Runnable action);
+    <T> Callable<T> wrap(Callable<T> action);
+    boolean isClosed();
+
+    @Override
+    void close();
+}
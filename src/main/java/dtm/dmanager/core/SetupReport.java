@@ -0,0 +1,13 @@
+package dtm.dmanager.core;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.List;
+
+public interface SetupReport {
+    Duration getTotalTime();
+    Duration getCriticalPathTime();
+    List<FactoryMethodReport> getFactories();
+    List<FactoryMethodReport> getFailedFactories();
+    List<Method> getSkippedFactories();
+}
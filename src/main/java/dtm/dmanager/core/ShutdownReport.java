@@ -0,0 +1,13 @@
+package dtm.dmanager.core;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+public interface ShutdownReport {
+    Duration getTotalTime();
+    int getDestroyedCount();
+    Map<Class<?>, Throwable> getFailures();
+    boolean isTimedOut();
+    List<Class<?>> getPendingClasses();
+}
@@ -0,0 +1,13 @@
+package dtm.dmanager.core;
+
+import java.time.Duration;
+
+import dtm.dmanager.enums.StartupPhase;
+
+public interface StartupPhaseEvent {
+    StartupPhase getPhase();
+    long getStartNanos();
+    Duration getDuration();
+    long getAllocatedBytes();
+    String getThreadName();
+}
@@ -0,0 +1,12 @@
+package dtm.dmanager.core;
+
+import java.time.Duration;
+import java.util.List;
+
+public interface ValidationReport {
+    boolean isValid();
+    Duration getTotalTime();
+    int getCheckedCount();
+    List<String> getProblems();
+    List<List<Class<?>>> getCycles();
+}
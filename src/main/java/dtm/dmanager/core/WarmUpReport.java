@@ -0,0 +1,12 @@
+package dtm.dmanager.core;
+
+import java.time.Duration;
+import java.util.List;
+
+public interface WarmUpReport {
+    Duration getTotalTime();
+    Duration getCriticalPathTime();
+    int getCreatedCount();
+    List<Class<?>> getFailedClasses();
+    List<Class<?>> getSkippedClasses();
+}
@@ -12,4 +12,6 @@ import dtm.dmanager.enums.DependencyCreatorType;
 public @interface Injectable {
     DependencyCreatorType createStrategy() default DependencyCreatorType.SINGLETON;
     String qualifier() default "default";
-}
\ No newline at end of file
+    int poolSize() default 0;
+    int order() default 0;
+}
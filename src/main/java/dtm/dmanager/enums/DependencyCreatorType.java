@@ -2,5 +2,8 @@ package dtm.dmanager.enums;
 
 public enum DependencyCreatorType {
     SINGLETON,
-    PROTOTYPE
+    PROTOTYPE,
+    REQUEST,
+    THREAD,
+    POOLED
 }
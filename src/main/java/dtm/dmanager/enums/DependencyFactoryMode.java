@@ -0,0 +1,6 @@
+package dtm.dmanager.enums;
+
+public enum DependencyFactoryMode {
+    REFLECTION,
+    METHOD_HANDLE
+}
@@ -0,0 +1,8 @@
+package dtm.dmanager.enums;
+
+public enum ExecutionMode {
+    CALLER_THREAD,
+    DEDICATED_POOL,
+    VIRTUAL_THREADS,
+    CUSTOM
+}
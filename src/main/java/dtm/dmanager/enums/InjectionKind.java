@@ -0,0 +1,8 @@
+package dtm.dmanager.enums;
+
+public enum InjectionKind {
+    DIRECT,
+    PROVIDER,
+    LAZY,
+    MULTIPLE
+}
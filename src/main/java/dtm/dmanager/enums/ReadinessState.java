@@ -0,0 +1,8 @@
+package dtm.dmanager.enums;
+
+public enum ReadinessState {
+    PENDING,
+    READY,
+    FAILED,
+    SKIPPED
+}
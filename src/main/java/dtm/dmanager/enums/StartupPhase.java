@@ -0,0 +1,9 @@
+package dtm.dmanager.enums;
+
+public enum StartupPhase {
+    CLASSPATH_SCAN,
+    SETUP_FACTORIES,
+    READINESS_WAIT,
+    DEPENDENCY_INITIALIZE,
+    BOOTABLE_RESOLUTION
+}
@@ -1,8 +1,27 @@
 package dtm.dmanager.exceptions;
 
+import dtm.dmanager.core.ValidationReport;
+
 public class DependencyManagerInitializeException extends RuntimeException{
 
+    private final ValidationReport validationReport;
+
     public DependencyManagerInitializeException(String message){
         super(message);
+        this.validationReport = null;
+    }
+
+    public DependencyManagerInitializeException(String message, Throwable cause){
+        super(message, cause);
+        this.validationReport = null;
+    }
+
+    public DependencyManagerInitializeException(ValidationReport validationReport){
+        super(String.valueOf(validationReport));
+        this.validationReport = validationReport;
+    }
+
+    public ValidationReport getValidationReport() {
+        return validationReport;
     }
 }
@@ -0,0 +1,10 @@
+package dtm.dmanager.exceptions;
+
+public class ScopeNotActiveException extends RuntimeException{
+
+    private static final long serialVersionUID = 1L;
+
+    public ScopeNotActiveException(String message){
+        super(message);
+    }
+}
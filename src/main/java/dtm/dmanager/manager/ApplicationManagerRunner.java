@@ -1,6 +1,13 @@
 package dtm.dmanager.manager;
 
+import java.io.File;
+import java.io.IOException;
 import java.lang.reflect.Method;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.CodeSource;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -8,18 +15,29 @@ import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import dtm.discovery.core.ClassFinder;
 import dtm.discovery.finder.ClassFinderService;
+import dtm.dmanager.core.ApplicationClassIndex;
 import dtm.dmanager.core.ApplicationManager;
+import dtm.dmanager.core.BeanReadiness;
 import dtm.dmanager.core.BeansManagerBuilder;
 import dtm.dmanager.core.DependencyManager;
+import dtm.dmanager.core.DependencyManagerConfiguration;
 import dtm.dmanager.core.DependencyResultGet;
+import dtm.dmanager.core.FactoryMethodReport;
+import dtm.dmanager.core.ReadinessReport;
+import dtm.dmanager.core.SetupReport;
+import dtm.dmanager.core.ValidationReport;
 import dtm.dmanager.core.annotations.Bootable;
-import dtm.dmanager.core.annotations.FactoryMethod;
+import dtm.dmanager.core.annotations.Injectable;
 import dtm.dmanager.core.annotations.Setup;
+import dtm.dmanager.enums.StartupPhase;
 import dtm.dmanager.exceptions.ApplicationManagerInitializeException;
+import dtm.dmanager.exceptions.DependencyManagerInitializeException;
 import lombok.Getter;
 
 public class ApplicationManagerRunner implements ApplicationManager{
@@ -34,16 +52,31 @@ public class ApplicationManagerRunner implements ApplicationManager{
 
     private BeansManagerBuilder beansManagerBuilder;
 
+    @Getter
+    private DependencyManagerConfiguration configuration;
+
+    private SetupFactoryRunner setupFactoryRunner;
+
+    private Thread shutdownHook;
+
+    private ContainerExecutor containerExecutor;
+
+    private StartupSnapshot startupSnapshot;
+
+    private long snapshotKey;
+
     private ApplicationManagerRunner(){
         this.classFinder = new ClassFinderService();
         applicationClasses = new HashSet<>();
         beansManagerBuilder = new ApplicationBeansManagerBuilder(new ArrayList<>());
+        configuration = new DependencyManagerConfiguration();
     }
 
     private ApplicationManagerRunner(ClassFinder classFinder){
         this.classFinder = classFinder;
         applicationClasses = new HashSet<>();
         beansManagerBuilder = new ApplicationBeansManagerBuilder(new ArrayList<>());
+        configuration = new DependencyManagerConfiguration();
     }
 
     @Override
@@ -53,18 +86,88 @@ public class ApplicationManagerRunner implements ApplicationManager{
 
     @Override
     public void run(Class<?> mainClass) {
-        populateApplicationClasses(mainClass);
+        long startupStart = System.nanoTime();
+        StartupInstrumentation instrumentation = new StartupInstrumentation(configuration.getListeners());
+        if(containerExecutor == null){
+            containerExecutor = ContainerExecutor.create(configuration);
+        }
+
+        instrumentation.measurePhase(StartupPhase.CLASSPATH_SCAN, () -> populateApplicationClasses(mainClass));
         Class<?> bootableClass = getBootableClass().orElseThrow(() -> new ApplicationManagerInitializeException("Bootable class not found"));
         Method bootableMethod = getBootableMethod(bootableClass).orElseThrow(() -> new ApplicationManagerInitializeException("Bootable method not found"));
         
         createDependencyManager();
-        List<Object> beans = getInjectableBeans();
-        injectBean(beans);
-        dependencyManager.initialize(bootableClass);
-        DependencyResultGet dependencyResultGet = dependencyManager.getDependency(bootableClass);
-        canExecute(dependencyResultGet);
-        Object intanceRunner = dependencyResultGet.getDependency();
-        executeMethod(intanceRunner, bootableMethod);
+        registerShutdownHook();
+        instrumentation.measurePhase(StartupPhase.DEPENDENCY_INITIALIZE, () -> dependencyManager.initialize(bootableClass));
+        writeStartupSnapshot(instrumentation);
+        instrumentation.measurePhase(StartupPhase.SETUP_FACTORIES, () -> {
+            injectBean(getInjectableBeans());
+            runSetupFactories(instrumentation);
+        });
+        instrumentation.measurePhase(StartupPhase.READINESS_WAIT, () -> awaitSetupFactories(bootableClass, bootableMethod, startupStart));
+        if(configuration.isValidateOnInitialize()){
+            ValidationReport validationReport = dependencyManager.validate();
+            if(!validationReport.isValid()){
+                throw new DependencyManagerInitializeException(validationReport);
+            }
+        }
+        if(configuration.isEagerInitialization()){
+            dependencyManager.warmUp();
+        }
+        Object intanceRunner = instrumentation.measurePhase(StartupPhase.BOOTABLE_RESOLUTION, () -> {
+            DependencyResultGet dependencyResultGet = dependencyManager.getDependency(bootableClass);
+            canExecute(dependencyResultGet);
+            awaitInitialization(startupStart);
+            return dependencyResultGet.getDependency();
+        });
+        instrumentation.startupCompleted(Duration.ofNanos(System.nanoTime() - startupStart));
+        if(configuration.isRunBootableOnExecutor()){
+            containerExecutor.call(() -> {
+                executeMethod(intanceRunner, bootableMethod);
+                return null;
+            });
+        }else{
+            executeMethod(intanceRunner, bootableMethod);
+        }
+    }
+
+    @Override
+    public SetupReport getSetupReport(){
+        return (setupFactoryRunner == null) ? null : setupFactoryRunner.getReport();
+    }
+
+    @Override
+    public ReadinessReport getReadinessReport(){
+        if(setupFactoryRunner == null){
+            return null;
+        }
+        ReadinessReport readinessReport = setupFactoryRunner.getReadinessReport();
+        if(!(dependencyManager instanceof DependencyManagerApplication)){
+            return readinessReport;
+        }
+        List<BeanReadiness> beans = new ArrayList<>(readinessReport.getBeans());
+        beans.addAll(((DependencyManagerApplication) dependencyManager).getInitializationReadiness());
+        return new ReadinessReportStorage(readinessReport.getElapsed(), Collections.unmodifiableList(beans));
+    }
+
+    @Override
+    public void close(){
+        Thread hook = shutdownHook;
+        shutdownHook = null;
+        if(hook != null && hook != Thread.currentThread()){
+            try {
+                Runtime.getRuntime().removeShutdownHook(hook);
+            } catch (IllegalStateException e) {
+
+            }
+        }
+        if(dependencyManager != null){
+            dependencyManager.close();
+        }
+        if(containerExecutor != null){
+            containerExecutor.close();
+            containerExecutor = null;
+        }
     }
 
     @Override
@@ -87,6 +190,14 @@ public class ApplicationManagerRunner implements ApplicationManager{
         return getApplicationManager(null);
     }
 
+    public static ApplicationManager newApplicationManager(ClassFinder classFinder){
+        return (classFinder == null) ? new ApplicationManagerRunner() : new ApplicationManagerRunner(classFinder);
+    }
+
+    public static ApplicationManager newApplicationManager(){
+        return newApplicationManager(null);
+    }
+
     public static void runApplication(){
         ApplicationManagerRunner.getApplicationManager().run();
     }
@@ -96,8 +207,7 @@ public class ApplicationManagerRunner implements ApplicationManager{
     }
 
     private Optional<Class<?>> getBootableClass(){
-        return applicationClasses.parallelStream()
-        .filter(bc -> bc.isAnnotationPresent(Bootable.class))
+        return containerExecutor.filter(applicationClasses, bc -> bc.isAnnotationPresent(Bootable.class)).stream()
         .findFirst();
     }
 
@@ -120,23 +230,95 @@ public class ApplicationManagerRunner implements ApplicationManager{
         
     }
 
-    private List<Method> getFactoryMethod(Class<?>  setupClass){
+    private void createDependencyManager(){
+        dependencyManager = new DependencyManagerApplication(this.classFinder, applicationClasses, configuration.toBuilder().eagerInitialization(false).validateOnInitialize(false).build(), startupSnapshot, containerExecutor);
+    }
+
+    private void populateApplicationClasses(Class<?> mainClass){
+        startupSnapshot = readStartupSnapshot(mainClass);
+        if(startupSnapshot != null){
+            applicationClasses = new HashSet<>(startupSnapshot.getApplicationClasses());
+            return;
+        }
+
+        ClassLoader classLoader = (mainClass == null) ? Thread.currentThread().getContextClassLoader() : mainClass.getClassLoader();
+        Set<Path> indexedLocations = new HashSet<>();
+        Set<Class<?>> indexedClasses = getIndexedClasses(classLoader, indexedLocations);
+        if(!indexedLocations.isEmpty() && indexedLocations.containsAll(getApplicationLocations(mainClass))){
+            applicationClasses = indexedClasses;
+            return;
+        }
+
+        applicationClasses = new HashSet<>((mainClass == null) ? classFinder.find() : classFinder.find(mainClass));
+        applicationClasses.addAll(indexedClasses);
+    }
+
+    private StartupSnapshot readStartupSnapshot(Class<?> mainClass){
+        if(configuration.getSnapshotFile() == null){
+            return null;
+        }
+        ClassLoader classLoader = (mainClass == null) ? Thread.currentThread().getContextClassLoader() : mainClass.getClassLoader();
+        snapshotKey = StartupSnapshot.classpathKey();
+        return StartupSnapshot.read(configuration.getSnapshotFile(), snapshotKey, classLoader);
+    }
+
+    private void writeStartupSnapshot(StartupInstrumentation instrumentation){
+        if(configuration.getSnapshotFile() == null || startupSnapshot != null || !(dependencyManager instanceof DependencyManagerApplication)){
+            return;
+        }
         try {
-            return Arrays.stream(setupClass.getMethods()).filter(m -> m.isAnnotationPresent(FactoryMethod.class) && m.getParameterCount() == 0).toList();
-        }catch (Exception e) {
-            return Collections.emptyList();
+            Set<Class<?>> snapshotClasses = new HashSet<>(containerExecutor.filter(applicationClasses,
+                c -> c.isAnnotationPresent(Injectable.class) || c.isAnnotationPresent(Setup.class) || c.isAnnotationPresent(Bootable.class)));
+            ((DependencyManagerApplication) dependencyManager).createStartupSnapshot(snapshotKey, snapshotClasses).write(configuration.getSnapshotFile());
+        } catch (IOException e) {
+            instrumentation.snapshotFailed(configuration.getSnapshotFile(), e);
         }
     }
 
-    private void createDependencyManager(){
-        dependencyManager = new DependencyManagerApplication(this.classFinder, applicationClasses);
+    private Set<Class<?>> getIndexedClasses(ClassLoader classLoader, Set<Path> indexedLocations){
+        Set<Class<?>> indexedClasses = new HashSet<>();
+        for (ApplicationClassIndex classIndex : ServiceLoader.load(ApplicationClassIndex.class, classLoader)) {
+            Path location = getLocation(classIndex.getClass());
+            if(location != null){
+                indexedLocations.add(location);
+            }
+            loadIndexedClasses(classIndex.getInjectableClasses(), classLoader, indexedClasses);
+            loadIndexedClasses(classIndex.getSetupClasses(), classLoader, indexedClasses);
+            loadIndexedClasses(classIndex.getBootableClasses(), classLoader, indexedClasses);
+        }
+        return indexedClasses;
     }
 
-    private void populateApplicationClasses(Class<?> mainClass){
-        if(mainClass == null){
-            applicationClasses = classFinder.find();
-        }else{
-            applicationClasses = classFinder.find(mainClass);
+    private Set<Path> getApplicationLocations(Class<?> mainClass){
+        Set<Path> applicationLocations = new HashSet<>();
+        if(mainClass != null){
+            applicationLocations.add(getLocation(mainClass));
+            return applicationLocations;
+        }
+        for (String entry : System.getProperty("java.class.path", "").split(File.pathSeparator)) {
+            if(!entry.isEmpty() && Files.isDirectory(Path.of(entry))){
+                applicationLocations.add(Path.of(entry).toAbsolutePath().normalize());
+            }
+        }
+        return applicationLocations;
+    }
+
+    private Path getLocation(Class<?> clazz){
+        try {
+            CodeSource codeSource = clazz.getProtectionDomain().getCodeSource();
+            return (codeSource == null || codeSource.getLocation() == null) ? null : Path.of(codeSource.getLocation().toURI()).toAbsolutePath().normalize();
+        } catch (URISyntaxException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private void loadIndexedClasses(List<String> classNames, ClassLoader classLoader, Set<Class<?>> target){
+        for (String className : classNames) {
+            try {
+                target.add(Class.forName(className, false, classLoader));
+            } catch (ClassNotFoundException | LinkageError e) {
+                throw new ApplicationManagerInitializeException("Indexed class can not be loaded: "+className, e);
+            }
         }
     }
 
@@ -170,35 +352,84 @@ public class ApplicationManagerRunner implements ApplicationManager{
         }
     }
 
-    private List<Object> getInjectableBeans(){
-        BeansManagerBuilder beansManagerBuilder = getBeansManagerBuilder();
-        List<Object> beans = new ArrayList<>();
-        List<Class<?>> setupClassList = applicationClasses.parallelStream().filter(c -> c.isAnnotationPresent(Setup.class)).toList();
-        for (Class<?> setupClass : setupClassList) {
-            Object instance = dependencyManager.doCreate(setupClass);
-            List<Method> methodsFactories = getFactoryMethod(setupClass);
-
-            for (Method method : methodsFactories) {
-                try {
-                    if (!method.canAccess(instance)) {
-                        method.setAccessible(true);
-                    }
-    
-                    Object result = method.invoke(instance);
-    
-
-                    if (result != null) {
-                        beans.add(result);
-                    }
-    
-                } catch (Exception e) {
-                    
-                }
-            }
+    private void runSetupFactories(StartupInstrumentation instrumentation){
+        List<Class<?>> setupClassList = containerExecutor.filter(applicationClasses, c -> c.isAnnotationPresent(Setup.class));
+        setupFactoryRunner = new SetupFactoryRunner(
+            dependencyManager,
+            setupClassList,
+            (configuration.getSetupExecutor() == null) ? containerExecutor.limit(configuration.getSetupParallelism()) : configuration.getSetupExecutor(),
+            instrumentation
+        ).start();
+    }
+
+    private void registerShutdownHook(){
+        if(configuration.isRegisterShutdownHook() && shutdownHook == null){
+            shutdownHook = new Thread(this::close, "dmanager-shutdown");
+            Runtime.getRuntime().addShutdownHook(shutdownHook);
+        }
+    }
+
+    private Duration getRemainingStartupTime(long startupStart){
+        Duration startupTimeout = configuration.getStartupTimeout();
+        if(startupTimeout == null){
+            return null;
+        }
+        Duration remaining = startupTimeout.minusNanos(System.nanoTime() - startupStart);
+        return (remaining.isNegative()) ? Duration.ZERO : remaining;
+    }
+
+    private void awaitInitialization(long startupStart){
+        if(!(dependencyManager instanceof DependencyManagerApplication)){
+            return;
+        }
+        if(!((DependencyManagerApplication) dependencyManager).awaitInitialization(getRemainingStartupTime(startupStart))){
+            throw startupTimeout(getReadinessReport());
+        }
+    }
+
+    private ApplicationManagerInitializeException startupTimeout(ReadinessReport readinessReport){
+        String pending = readinessReport.getPendingBeans().stream()
+            .map(BeanReadiness::getName)
+            .collect(Collectors.joining(", "));
+        return new ApplicationManagerInitializeException("Startup timeout of "+configuration.getStartupTimeout()+" exceeded, pending beans: ["+pending+"]");
+    }
+
+    private void awaitSetupFactories(Class<?> bootableClass, Method bootableMethod, long startupStart){
+        Duration startupTimeout = getRemainingStartupTime(startupStart);
+        boolean awaitAll = configuration.isFailOnSetupError() || configuration.isValidateOnInitialize() || configuration.isEagerInitialization()
+            || !(dependencyManager instanceof DependencyManagerApplication);
+        boolean ready;
+        if(awaitAll){
+            ready = setupFactoryRunner.awaitAll(startupTimeout);
+        }else{
+            Set<Class<?>> requiredTypes = new HashSet<>(((DependencyManagerApplication) dependencyManager).getRequiredTypes(bootableClass));
+            requiredTypes.addAll(Arrays.asList(bootableMethod.getParameterTypes()));
+            ready = setupFactoryRunner.await(requiredTypes, startupTimeout);
+        }
+
+        if(!ready){
+            throw startupTimeout(setupFactoryRunner.getReadinessReport());
         }
 
-        beans.addAll(beansManagerBuilder.getBeans().parallelStream().map(b -> b.getBean()).toList());
-        return beans;
+        SetupReport setupReport = setupFactoryRunner.getReport();
+        if(configuration.isFailOnSetupError() && (!setupReport.getFailedFactories().isEmpty() || !setupReport.getSkippedFactories().isEmpty())){
+            String failures = setupReport.getFailedFactories().stream()
+                .map(this::describeFailure)
+                .collect(Collectors.joining("; "));
+            String skipped = setupReport.getSkippedFactories().stream()
+                .map(m -> m.getDeclaringClass().getName()+"."+m.getName())
+                .collect(Collectors.joining(", "));
+            throw new ApplicationManagerInitializeException("Setup factories failed: ["+failures+"] cyclic: ["+skipped+"]");
+        }
+    }
+
+    private String describeFailure(FactoryMethodReport report){
+        return report.getFactoryMethod().getDeclaringClass().getName()+"."+report.getFactoryMethod().getName()+" -> "+report.getFailure();
+    }
+
+    private List<Object> getInjectableBeans(){
+        BeansManagerBuilder beansManagerBuilder = getBeansManagerBuilder();
+        return new ArrayList<>(beansManagerBuilder.getBeans().stream().map(b -> b.getBean()).toList());
     }
 
     private void injectBean(List<Object> beans){
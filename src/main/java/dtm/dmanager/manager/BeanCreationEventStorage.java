@@ -0,0 +1,22 @@
+package dtm.dmanager.manager;
+
+import java.time.Duration;
+
+import dtm.dmanager.core.BeanCreationEvent;
+import dtm.dmanager.enums.DependencyCreatorType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class BeanCreationEventStorage implements BeanCreationEvent{
+    private Class<?> dependencyClass;
+    private String qualifier;
+    private DependencyCreatorType creatorStrategy;
+    private long startNanos;
+    private Duration duration;
+    private long allocatedBytes;
+    private int depth;
+    private String threadName;
+    private boolean created;
+}
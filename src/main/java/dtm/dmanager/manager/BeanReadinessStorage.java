@@ -0,0 +1,25 @@
+package dtm.dmanager.manager;
+
+import java.time.Duration;
+
+import dtm.dmanager.core.BeanReadiness;
+import dtm.dmanager.enums.ReadinessState;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class BeanReadinessStorage implements BeanReadiness{
+    private String name;
+    private Class<?> beanClass;
+    private String qualifier;
+    private ReadinessState state;
+    private Duration elapsed;
+    private Throwable failure;
+
+    @Override
+    public String toString() {
+        return "BeanReadinessStorage [name=" + name + ", beanClass=" + beanClass + ", qualifier=" + qualifier + ", state=" + state
+                + ", elapsed=" + elapsed + ", failure=" + failure + "]";
+    }
+}
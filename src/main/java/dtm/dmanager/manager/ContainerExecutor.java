@@ -0,0 +1,222 @@
+package dtm.dmanager.manager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import dtm.dmanager.core.DependencyManagerConfiguration;
+import dtm.dmanager.enums.ExecutionMode;
+
+public class ContainerExecutor implements Executor, AutoCloseable {
+
+    private static final int PARALLEL_THRESHOLD = 1024;
+
+    private final ExecutionMode executionMode;
+    private final Executor executor;
+    private final ExecutorService ownedExecutor;
+    private final int parallelism;
+
+    private ContainerExecutor(ExecutionMode executionMode, Executor executor, ExecutorService ownedExecutor, int parallelism){
+        this.executionMode = executionMode;
+        this.executor = executor;
+        this.ownedExecutor = ownedExecutor;
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    public static ContainerExecutor create(DependencyManagerConfiguration configuration){
+        ExecutionMode executionMode = (configuration.getExecutionMode() == null) ? ExecutionMode.DEDICATED_POOL : configuration.getExecutionMode();
+        int parallelism = Math.max(1, configuration.getContainerParallelism());
+        if(configuration.getContainerExecutor() != null){
+            return new ContainerExecutor(ExecutionMode.CUSTOM, configuration.getContainerExecutor(), null, parallelism);
+        }
+        switch (executionMode) {
+            case CALLER_THREAD:
+                return new ContainerExecutor(ExecutionMode.CALLER_THREAD, Runnable::run, null, 1);
+            case VIRTUAL_THREADS: {
+                ExecutorService virtualExecutor = newVirtualThreadExecutor();
+                if(virtualExecutor != null){
+                    return new ContainerExecutor(ExecutionMode.VIRTUAL_THREADS, virtualExecutor, virtualExecutor, parallelism);
+                }
+                break;
+            }
+            default:
+                break;
+        }
+        ForkJoinPool pool = new ForkJoinPool(Math.max(parallelism, Math.max(configuration.getSetupParallelism(), configuration.getWarmUpParallelism())));
+        return new ContainerExecutor(ExecutionMode.DEDICATED_POOL, pool, pool, parallelism);
+    }
+
+    private static ExecutorService newVirtualThreadExecutor(){
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    public ExecutionMode getExecutionMode() {
+        return executionMode;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        executor.execute(command);
+    }
+
+    public Executor limit(int maxConcurrency){
+        if(executionMode == ExecutionMode.CALLER_THREAD){
+            return this;
+        }
+        return new LimitedExecutor(executor, Math.max(1, maxConcurrency));
+    }
+
+    public <T> T call(Supplier<T> action){
+        if(executionMode == ExecutionMode.CALLER_THREAD){
+            return action.get();
+        }
+        try {
+            return CompletableFuture.supplyAsync(action, executor).join();
+        } catch (CompletionException e) {
+            if(e.getCause() instanceof RuntimeException runtimeException){
+                throw runtimeException;
+            }
+            if(e.getCause() instanceof Error error){
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    public <T> List<T> filter(Collection<T> values, Predicate<? super T> predicate){
+        List<T> source = new ArrayList<>(values);
+        List<List<T>> chunks = new ArrayList<>();
+        int maxConcurrency = (source.size() < PARALLEL_THRESHOLD) ? 1 : parallelism;
+        forEach(source.size(), maxConcurrency, () -> new ArrayList<T>(), (chunk, i) -> {
+            T value = source.get(i);
+            if(predicate.test(value)){
+                chunk.add(value);
+            }
+        }, chunks);
+
+        List<T> result = new ArrayList<>();
+        for (List<T> chunk : chunks) {
+            result.addAll(chunk);
+        }
+        return result;
+    }
+
+    public void forEach(int size, int maxConcurrency, IntConsumer action){
+        forEach(size, maxConcurrency, () -> null, (chunk, i) -> action.accept(i), new ArrayList<>());
+    }
+
+    private <C> void forEach(int size, int maxConcurrency, Supplier<C> chunkFactory, ChunkConsumer<C> action, List<C> chunks){
+        int chunkCount = Math.min(Math.max(1, maxConcurrency), parallelism);
+        if(chunkCount == 1 || executionMode == ExecutionMode.CALLER_THREAD){
+            C chunk = chunkFactory.get();
+            for (int i = 0; i < size; i++) {
+                action.accept(chunk, i);
+            }
+            chunks.add(chunk);
+            return;
+        }
+
+        int chunkSize = (size + chunkCount - 1) / chunkCount;
+        List<CompletableFuture<C>> futures = new ArrayList<>(chunkCount);
+        for (int start = 0; start < size; start += chunkSize) {
+            int from = start;
+            int to = Math.min(size, start + chunkSize);
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                C chunk = chunkFactory.get();
+                for (int i = from; i < to; i++) {
+                    action.accept(chunk, i);
+                }
+                return chunk;
+            }, executor));
+        }
+        for (CompletableFuture<C> future : futures) {
+            chunks.add(future.join());
+        }
+    }
+
+    @Override
+    public void close() {
+        if(ownedExecutor != null){
+            ownedExecutor.shutdown();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ContainerExecutor [executionMode=" + executionMode + ", parallelism=" + parallelism + "]";
+    }
+
+    private interface ChunkConsumer<C> {
+        void accept(C chunk, int index);
+    }
+
+    private static final class LimitedExecutor implements Executor {
+        private final Executor executor;
+        private final int maxConcurrency;
+        private final Queue<Runnable> queue;
+        private final AtomicInteger active;
+
+        private LimitedExecutor(Executor executor, int maxConcurrency){
+            this.executor = executor;
+            this.maxConcurrency = maxConcurrency;
+            this.queue = new ConcurrentLinkedQueue<>();
+            this.active = new AtomicInteger();
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            queue.add(command);
+            drain();
+        }
+
+        private void drain(){
+            while (!queue.isEmpty()) {
+                int current = active.get();
+                if(current >= maxConcurrency){
+                    return;
+                }
+                if(!active.compareAndSet(current, current + 1)){
+                    continue;
+                }
+                Runnable next = queue.poll();
+                if(next == null){
+                    active.decrementAndGet();
+                    continue;
+                }
+                try {
+                    executor.execute(() -> {
+                        try {
+                            next.run();
+                        } finally {
+                            active.decrementAndGet();
+                            drain();
+                        }
+                    });
+                } catch (RuntimeException e) {
+                    active.decrementAndGet();
+                    throw e;
+                }
+            }
+        }
+    }
+}
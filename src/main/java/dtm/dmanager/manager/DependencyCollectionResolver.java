@@ -0,0 +1,181 @@
+package dtm.dmanager.manager;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import dtm.dmanager.enums.DependencyCreatorType;
+
+public class DependencyCollectionResolver {
+
+    public enum Shape {
+        LIST,
+        ARRAY,
+        MAP
+    }
+
+    private final DependencyManagerApplication dependencyManager;
+    private final Class<?> elementType;
+    private final Shape shape;
+    private volatile Binding binding;
+
+    public DependencyCollectionResolver(DependencyManagerApplication dependencyManager, Class<?> elementType, Shape shape){
+        this.dependencyManager = dependencyManager;
+        this.elementType = elementType;
+        this.shape = shape;
+    }
+
+    public Class<?> getElementType() {
+        return elementType;
+    }
+
+    public Shape getShape() {
+        return shape;
+    }
+
+    ResolutionNode getResolutionNode(){
+        return dependencyManager.getResolutionNode(elementType);
+    }
+
+    public Object resolve(){
+        long version = dependencyManager.getResolutionVersion();
+        Binding current = binding;
+        if(version < 0){
+            current = build(version, dependencyManager.getResolutionNode(elementType));
+            return (current.value != null) ? current.value : create(current.qualifiers, current.storages);
+        }
+        if(current == null || current.version != version){
+            current = build(version, dependencyManager.getResolutionNode(elementType));
+            binding = current;
+        }
+        if(current.value != null){
+            return (shape == Shape.ARRAY) ? copyArray(current.value) : current.value;
+        }
+        return create(current.qualifiers, current.storages);
+    }
+
+    private Binding build(long version, ResolutionNode node){
+        int size = (node == null) ? 0 : node.size();
+        List<String> qualifiers = new ArrayList<>(size);
+        List<DependencyManagerStorage> storages = new ArrayList<>(size);
+        boolean singletons = true;
+        for (int i = 0; i < size; i++) {
+            DependencyManagerStorage storage = node.getStorage(i);
+            if(storage.getActivationFunction() == null || containsStorage(storages, storage)){
+                continue;
+            }
+            qualifiers.add(node.getQualifier(i));
+            storages.add(storage);
+            singletons &= storage.getCreatorStrategy() == DependencyCreatorType.SINGLETON;
+        }
+
+        String[] qualifierArray = qualifiers.toArray(new String[0]);
+        DependencyManagerStorage[] storageArray = storages.toArray(new DependencyManagerStorage[0]);
+        Object value = null;
+        if(singletons){
+            Object[] values = activateAll(storageArray);
+            value = (containsNull(values)) ? null : assemble(qualifierArray, values);
+        }
+        return new Binding(version, qualifierArray, storageArray, value);
+    }
+
+    private Object create(String[] qualifiers, DependencyManagerStorage[] storages){
+        return assemble(qualifiers, activateAll(storages));
+    }
+
+    private Object assemble(String[] qualifiers, Object[] values){
+        switch (shape) {
+            case ARRAY: {
+                List<Object> elements = nonNull(values);
+                Object array = Array.newInstance(elementType, elements.size());
+                for (int i = 0; i < elements.size(); i++) {
+                    Array.set(array, i, elements.get(i));
+                }
+                return array;
+            }
+            case MAP: {
+                Map<String, Object> elements = new LinkedHashMap<>();
+                for (int i = 0; i < values.length; i++) {
+                    if(values[i] != null){
+                        elements.putIfAbsent(qualifiers[i], values[i]);
+                    }
+                }
+                return Collections.unmodifiableMap(elements);
+            }
+            default:
+                return Collections.unmodifiableList(nonNull(values));
+        }
+    }
+
+    private Object[] activateAll(DependencyManagerStorage[] storages){
+        Object[] values = new Object[storages.length];
+        for (int i = 0; i < storages.length; i++) {
+            values[i] = activate(storages[i]);
+        }
+        return values;
+    }
+
+    private List<Object> nonNull(Object[] values){
+        List<Object> elements = new ArrayList<>(values.length);
+        for (Object value : values) {
+            if(value != null){
+                elements.add(value);
+            }
+        }
+        return elements;
+    }
+
+    private boolean containsNull(Object[] values){
+        for (Object value : values) {
+            if(value == null){
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Object activate(DependencyManagerStorage storage){
+        Supplier<Object> activationFunction = storage.getActivationFunction();
+        Object value = (activationFunction == null) ? null : activationFunction.get();
+        return (elementType.isInstance(value)) ? value : null;
+    }
+
+    private boolean containsStorage(List<DependencyManagerStorage> storages, DependencyManagerStorage storage){
+        for (DependencyManagerStorage current : storages) {
+            if(current == storage){
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Object copyArray(Object array){
+        int length = Array.getLength(array);
+        Object copy = Array.newInstance(elementType, length);
+        System.arraycopy(array, 0, copy, 0, length);
+        return copy;
+    }
+
+    private static final class Binding {
+        private final long version;
+        private final String[] qualifiers;
+        private final DependencyManagerStorage[] storages;
+        private final Object value;
+
+        private Binding(long version, String[] qualifiers, DependencyManagerStorage[] storages, Object value){
+            this.version = version;
+            this.qualifiers = qualifiers;
+            this.storages = storages;
+            this.value = value;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "DependencyCollectionResolver [elementType=" + elementType + ", shape=" + shape + "]";
+    }
+}
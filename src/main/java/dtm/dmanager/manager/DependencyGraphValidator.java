@@ -0,0 +1,207 @@
+package dtm.dmanager.manager;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+import dtm.dmanager.core.ValidationReport;
+import dtm.dmanager.enums.DependencyCreatorType;
+import dtm.dmanager.enums.InjectionKind;
+
+public class DependencyGraphValidator {
+
+    private static final int PARALLEL_THRESHOLD = 256;
+
+    private final List<DependencyManagerStorage> storages;
+    private final BiFunction<Class<?>, String, DependencyManagerStorage> lookup;
+    private final ContainerExecutor executor;
+    private final int parallelism;
+
+    public DependencyGraphValidator(Collection<DependencyManagerStorage> storages, BiFunction<Class<?>, String, DependencyManagerStorage> lookup, ContainerExecutor executor, int parallelism){
+        Map<Class<?>, DependencyManagerStorage> uniqueStorages = new LinkedHashMap<>();
+        for (DependencyManagerStorage storage : storages) {
+            if(storage.getDependencyClass() != null && !isProvidedInstance(storage)){
+                uniqueStorages.putIfAbsent(storage.getDependencyClass(), storage);
+            }
+        }
+        this.storages = new ArrayList<>(uniqueStorages.values());
+        this.lookup = lookup;
+        this.executor = executor;
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    public ValidationReport run(){
+        long start = System.nanoTime();
+        Map<Class<?>, Integer> positions = new HashMap<>();
+        for (int i = 0; i < storages.size(); i++) {
+            positions.put(storages.get(i).getDependencyClass(), i);
+        }
+
+        NodeResult[] results = new NodeResult[storages.size()];
+        if(storages.size() < PARALLEL_THRESHOLD || parallelism == 1){
+            for (int i = 0; i < results.length; i++) {
+                results[i] = check(storages.get(i), positions);
+            }
+        }else{
+            executor.forEach(results.length, parallelism, i -> results[i] = check(storages.get(i), positions));
+        }
+
+        List<String> problems = new ArrayList<>();
+        for (NodeResult result : results) {
+            problems.addAll(result.problems);
+        }
+        List<List<Class<?>>> cycles = findCycles(results);
+
+        return new ValidationReportStorage(
+            Duration.ofNanos(System.nanoTime() - start),
+            storages.size(),
+            Collections.unmodifiableList(problems),
+            Collections.unmodifiableList(cycles)
+        );
+    }
+
+    private NodeResult check(DependencyManagerStorage storage, Map<Class<?>, Integer> positions){
+        NodeResult result = new NodeResult();
+        Class<?> dependencyClass = storage.getDependencyClass();
+        DependencyInjectionPlan injectionPlan = storage.getInjectionPlan();
+        if(injectionPlan == null){
+            result.problems.add(dependencyClass.getName() + " has no injectable constructor");
+            return result;
+        }
+
+        for (InjectionPoint injectionPoint : injectionPlan.getParameters()) {
+            check(dependencyClass, injectionPoint, "constructor parameter", positions, result);
+        }
+        for (InjectionPoint injectionPoint : injectionPlan.getFields()) {
+            check(dependencyClass, injectionPoint, "field " + injectionPoint.getField().getName(), positions, result);
+        }
+        return result;
+    }
+
+    private void check(Class<?> dependencyClass, InjectionPoint injectionPoint, String location, Map<Class<?>, Integer> positions, NodeResult result){
+        if(injectionPoint.getKind() == InjectionKind.PROVIDER){
+            return;
+        }
+        if(injectionPoint.getKind() == InjectionKind.MULTIPLE){
+            checkElements(dependencyClass, injectionPoint, location, positions, result);
+            return;
+        }
+
+        DependencyManagerStorage target = injectionPoint.getTarget();
+        if(target == null || target.getActivationFunction() == null){
+            target = lookup.apply(injectionPoint.getType(), injectionPoint.getQualifier());
+        }
+        if(target == null){
+            result.problems.add(dependencyClass.getName() + " " + location + " requires " + injectionPoint.getType().getName()
+                + " (qualifier " + injectionPoint.getQualifier() + ") which is not registered");
+            return;
+        }
+
+        Integer position = positions.get(target.getDependencyClass());
+        if(injectionPoint.getKind() == InjectionKind.DIRECT && position != null){
+            result.edges.add(position);
+        }
+    }
+
+    private void checkElements(Class<?> dependencyClass, InjectionPoint injectionPoint, String location, Map<Class<?>, Integer> positions, NodeResult result){
+        ResolutionNode node = ((DependencyCollectionResolver) injectionPoint.getHandle()).getResolutionNode();
+        boolean found = false;
+        for (int i = 0; node != null && i < node.size(); i++) {
+            DependencyManagerStorage element = node.getStorage(i);
+            if(element.getActivationFunction() == null){
+                continue;
+            }
+            found = true;
+            Integer position = positions.get(element.getDependencyClass());
+            if(position != null && !result.edges.contains(position)){
+                result.edges.add(position);
+            }
+        }
+        if(!found){
+            result.problems.add(dependencyClass.getName() + " " + location + " requires at least one " + injectionPoint.getType().getName()
+                + " but none is registered");
+        }
+    }
+
+    private List<List<Class<?>>> findCycles(NodeResult[] results){
+        int size = results.length;
+        int[] index = new int[size];
+        int[] lowLink = new int[size];
+        boolean[] onStack = new boolean[size];
+        int[] edgeCursor = new int[size];
+        Arrays.fill(index, -1);
+
+        Deque<Integer> stack = new ArrayDeque<>();
+        Deque<Integer> callStack = new ArrayDeque<>();
+        List<List<Class<?>>> cycles = new ArrayList<>();
+        int counter = 0;
+
+        for (int root = 0; root < size; root++) {
+            if(index[root] != -1){
+                continue;
+            }
+            callStack.push(root);
+            while (!callStack.isEmpty()) {
+                int node = callStack.peek();
+                if(index[node] == -1){
+                    index[node] = counter;
+                    lowLink[node] = counter;
+                    counter++;
+                    stack.push(node);
+                    onStack[node] = true;
+                }
+
+                List<Integer> edges = results[node].edges;
+                if(edgeCursor[node] < edges.size()){
+                    int next = edges.get(edgeCursor[node]++);
+                    if(index[next] == -1){
+                        callStack.push(next);
+                    }else if(onStack[next]){
+                        lowLink[node] = Math.min(lowLink[node], index[next]);
+                    }
+                    continue;
+                }
+
+                callStack.pop();
+                if(!callStack.isEmpty()){
+                    int parent = callStack.peek();
+                    lowLink[parent] = Math.min(lowLink[parent], lowLink[node]);
+                }
+
+                if(lowLink[node] == index[node]){
+                    List<Class<?>> component = new ArrayList<>();
+                    int member;
+                    do {
+                        member = stack.pop();
+                        onStack[member] = false;
+                        component.add(0, storages.get(member).getDependencyClass());
+                    } while (member != node);
+
+                    if(component.size() > 1 || results[node].edges.contains(node)){
+                        cycles.add(Collections.unmodifiableList(component));
+                    }
+                }
+            }
+        }
+        return cycles;
+    }
+
+    private boolean isProvidedInstance(DependencyManagerStorage storage){
+        SingletonHolder singletonHolder = storage.getSingletonHolder();
+        return storage.getCreatorStrategy() == DependencyCreatorType.SINGLETON && singletonHolder != null && singletonHolder.isCreated();
+    }
+
+    private static final class NodeResult {
+        private final List<String> problems = new ArrayList<>();
+        private final List<Integer> edges = new ArrayList<>();
+    }
+}
@@ -0,0 +1,34 @@
+package dtm.dmanager.manager;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+
+import dtm.dmanager.core.DependencyManager;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class DependencyInjectionPlan {
+    private final Class<?> dependencyClass;
+    private final Constructor<?> constructor;
+    private final InjectionPoint[] parameters;
+    private final InjectionPoint[] fields;
+
+    public boolean containsFielInject(){
+        return fields.length > 0;
+    }
+
+    public Object create(DependencyManager dependencyManager) throws InvocationTargetException, InstantiationException, IllegalAccessException, IllegalArgumentException{
+        Object[] args = new Object[parameters.length];
+        for (int i = 0; i < parameters.length; i++) {
+            args[i] = parameters[i].resolve(dependencyManager);
+        }
+
+        Object instance = constructor.newInstance(args);
+        for (InjectionPoint injectionPoint : fields) {
+            injectionPoint.getField().set(instance, injectionPoint.resolve(dependencyManager));
+        }
+        return instance;
+    }
+}
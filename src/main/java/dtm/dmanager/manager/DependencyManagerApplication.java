@@ -3,23 +3,59 @@ package dtm.dmanager.manager;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.time.Duration;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
 import dtm.discovery.core.ClassFinder;
 import dtm.discovery.core.ClassFinderConfigurations;
+import dtm.dmanager.core.BeanReadiness;
 import dtm.dmanager.core.DependencyManager;
+import dtm.dmanager.core.DependencyManagerConfiguration;
+import dtm.dmanager.core.DependencyMetrics;
 import dtm.dmanager.core.DependencyResultGet;
+import dtm.dmanager.core.PoolMetrics;
+import dtm.dmanager.core.PooledDependency;
+import dtm.dmanager.core.Provider;
+import dtm.dmanager.core.ScopeContext;
+import dtm.dmanager.core.ShutdownReport;
+import dtm.dmanager.core.ValidationReport;
+import dtm.dmanager.core.WarmUpReport;
 import dtm.dmanager.core.annotations.Inject;
 import dtm.dmanager.core.annotations.Injectable;
+import dtm.dmanager.core.annotations.Lazy;
 import dtm.dmanager.enums.DependencyCreatorType;
+import dtm.dmanager.enums.DependencyFactoryMode;
+import dtm.dmanager.enums.InjectionKind;
 import dtm.dmanager.exceptions.DependencyManagerInitializeException;
 import lombok.Getter;
 
@@ -27,8 +63,29 @@ public class DependencyManagerApplication implements DependencyManager{
 
     private final ClassFinder classFinder;
 
-    private Map<Class<?>, Map<String, DependencyManagerStorage>> dependencyMap;
-    private Map<Class<?>, Object> singletonCache;
+    @Getter
+    private final DependencyManagerConfiguration configuration;
+
+    private final StartupInstrumentation instrumentation;
+    private final ScopeRegistry scopeRegistry;
+    private final StartupSnapshot startupSnapshot;
+    private final Object registrationLock;
+    private final ContainerExecutor containerExecutor;
+    private final boolean ownsContainerExecutor;
+    private final MetricsRegistry metricsRegistry;
+
+    @Getter
+    private final DependencyManagerApplication parent;
+
+    private Map<Class<?>, List<DependencyManagerStorage>> dependencyMap;
+    private Map<Class<?>, SingletonHolder> singletonCache;
+    private Map<Class<?>, MethodHandleDependencyFactory> dependencyFactories;
+    private Map<Class<?>, DependencyInjectionPlan> injectionPlans;
+    private Map<Class<?>, DependencyPool> dependencyPools;
+    private final Queue<PendingInitialization> pendingInitializations;
+    private final AtomicBoolean closed;
+    @Getter
+    private volatile ResolutionIndex resolutionIndex;
     
     private Set<Class<?>> applicationClasses; 
 
@@ -37,20 +94,84 @@ public class DependencyManagerApplication implements DependencyManager{
     @Getter
     private boolean initialized;
 
+    @Getter
+    private WarmUpReport warmUpReport;
+
+    @Getter
+    private ValidationReport validationReport;
+
+    @Getter
+    private volatile ShutdownReport shutdownReport;
+
     public DependencyManagerApplication(ClassFinder classFinder, Set<Class<?>> applicationClasses) {
+        this(classFinder, applicationClasses, new DependencyManagerConfiguration());
+    }
+
+    public DependencyManagerApplication(ClassFinder classFinder, Set<Class<?>> applicationClasses, DependencyManagerConfiguration configuration) {
+        this(classFinder, applicationClasses, configuration, null);
+    }
+
+    public DependencyManagerApplication(ClassFinder classFinder, Set<Class<?>> applicationClasses, DependencyManagerConfiguration configuration, StartupSnapshot startupSnapshot) {
+        this(classFinder, applicationClasses, configuration, startupSnapshot, null);
+    }
+
+    public DependencyManagerApplication(ClassFinder classFinder, Set<Class<?>> applicationClasses, DependencyManagerConfiguration configuration, StartupSnapshot startupSnapshot, ContainerExecutor containerExecutor) {
         this.classFinder = classFinder;
+        this.startupSnapshot = startupSnapshot;
+        this.registrationLock = new Object();
+        this.parent = null;
         this.applicationClasses = applicationClasses;
+        this.configuration = (configuration == null) ? new DependencyManagerConfiguration() : configuration;
+        this.ownsContainerExecutor = containerExecutor == null;
+        this.containerExecutor = (containerExecutor == null) ? ContainerExecutor.create(this.configuration) : containerExecutor;
+        this.instrumentation = new StartupInstrumentation(this.configuration.getListeners());
+        this.metricsRegistry = new MetricsRegistry(this.configuration.isMetricsEnabled(), instrumentation::metricsMBeanFailed);
+        this.scopeRegistry = new ScopeRegistry(instrumentation::destroyFailed);
+        this.pendingInitializations = new ConcurrentLinkedQueue<>();
+        this.closed = new AtomicBoolean();
         applicationDependencyClasses = new HashSet<>();
         dependencyMap = new ConcurrentHashMap<>();
         singletonCache = new ConcurrentHashMap<>();
+        dependencyFactories = new ConcurrentHashMap<>();
+        injectionPlans = new ConcurrentHashMap<>();
+        dependencyPools = new ConcurrentHashMap<>();
+        if(this.configuration.isRegisterMetricsMBean()){
+            metricsRegistry.registerMBean();
+        }
     }
 
-    public DependencyManagerApplication(ClassFinder classFinder) {
-        this.classFinder = classFinder;
-        applicationClasses = new HashSet<>();
-        applicationDependencyClasses = new HashSet<>(); 
+    private DependencyManagerApplication(DependencyManagerApplication parent) {
+        this.classFinder = parent.classFinder;
+        this.startupSnapshot = null;
+        this.registrationLock = new Object();
+        this.parent = parent;
+        this.applicationClasses = new HashSet<>();
+        this.configuration = parent.configuration;
+        this.containerExecutor = parent.containerExecutor;
+        this.ownsContainerExecutor = false;
+        this.instrumentation = parent.instrumentation;
+        this.metricsRegistry = parent.metricsRegistry;
+        this.scopeRegistry = parent.scopeRegistry;
+        this.pendingInitializations = new ConcurrentLinkedQueue<>();
+        this.closed = new AtomicBoolean();
+        applicationDependencyClasses = new HashSet<>();
         dependencyMap = new ConcurrentHashMap<>();
         singletonCache = new ConcurrentHashMap<>();
+        dependencyFactories = new ConcurrentHashMap<>();
+        injectionPlans = new ConcurrentHashMap<>();
+        dependencyPools = new ConcurrentHashMap<>();
+        autoInject();
+        freezeResolutionIndex();
+        defineActivatorFuntions();
+        initialized = true;
+    }
+
+    public DependencyManagerApplication(ClassFinder classFinder) {
+        this(classFinder, new HashSet<>());
+    }
+
+    public DependencyManagerApplication(ClassFinder classFinder, DependencyManagerConfiguration configuration) {
+        this(classFinder, new HashSet<>(), configuration);
     }
 
     @Override
@@ -60,14 +181,43 @@ public class DependencyManagerApplication implements DependencyManager{
 
     @Override
     public void initialize(Class<?>... clazzs) {
+        if(parent != null){
+            for (Class<?> clazz : clazzs) {
+                addDependency(clazz);
+            }
+            return;
+        }
         findServices();
         autoInject();
         applicationDependencyClasses.addAll(Arrays.asList(clazzs));
         for (Class<?> clazz : applicationDependencyClasses) {
             addInDependecyMap(clazz);
         }
+        freezeResolutionIndex();
         defineActivatorFuntions();
+        verifyScopes(getStorages());
         initialized = true;
+        if(configuration.isValidateOnInitialize()){
+            ValidationReport report = validate();
+            if(!report.isValid()){
+                throw new DependencyManagerInitializeException(report);
+            }
+        }
+        if(configuration.isEagerInitialization()){
+            warmUp();
+        }
+    }
+
+    @Override
+    public ValidationReport validate() {
+        validationReport = new DependencyGraphValidator(getStorages(), this::findDependencyStorage, containerExecutor, configuration.getWarmUpParallelism()).run();
+        return validationReport;
+    }
+
+    @Override
+    public WarmUpReport warmUp() {
+        warmUpReport = new SingletonWarmUp(getStorages(), containerExecutor.limit(configuration.getWarmUpParallelism())).run();
+        return warmUpReport;
     }
 
     @Override
@@ -82,59 +232,168 @@ public class DependencyManagerApplication implements DependencyManager{
 
     @Override
     public void addDependency(Object dependency, DependencyCreatorType strategy, String qualifier){
-        qualifier = (qualifier == null || qualifier.isEmpty()) ? "default" : qualifier;
+        addDependency(dependency, qualifier, true);
+    }
+
+    void addDependency(Object dependency, String qualifier, boolean externallyProvided){
+        String dependencyQualifier = (qualifier == null || qualifier.isEmpty()) ? "default" : qualifier;
         Class<?> clazzBase = dependency.getClass();
-        List<Class<?>> parents = getParentClassList(clazzBase);
-        parents.add(0, clazzBase);
-        singletonCache.put(clazzBase, dependency);
-        for (Class<?> clazz : parents){
-            Map<String, DependencyManagerStorage> node = dependencyMap.getOrDefault(clazz, new ConcurrentHashMap<>());
-            DependencyManagerStorage dependencyStorage = node.getOrDefault(qualifier, new DependencyManagerStorage(DependencyCreatorType.SINGLETON, false, clazzBase, () -> null));
-            dependencyStorage.setActivationFunction(() -> getByCache(dependencyStorage, dependency));
-            node.put(qualifier, dependencyStorage);
-            dependencyMap.put(clazz, node);
+        List<Class<?>> parents = TypeClosure.getAssignableTypes(clazzBase);
+        synchronized (registrationLock) {
+            SingletonHolder singletonHolder = ("default".equals(dependencyQualifier)) ? getSingletonHolder(clazzBase) : new SingletonHolder();
+            singletonHolder.setInstance(dependency);
+            DependencyManagerStorage dependencyStorage = findRegisteredStorage(clazzBase, dependencyQualifier);
+            if(dependencyStorage == null){
+                dependencyStorage = createDependencyStorage(DependencyCreatorType.SINGLETON, dependencyQualifier, false, clazzBase, () -> null);
+                for (Class<?> clazz : parents){
+                    dependencyMap.computeIfAbsent(clazz, c -> new CopyOnWriteArrayList<>()).add(dependencyStorage);
+                }
+            }
+            dependencyStorage.setSingletonHolder(singletonHolder);
+            dependencyStorage.setExternallyProvided(externallyProvided);
+            dependencyStorage.setActivationFunction(() -> singletonHolder.get(() -> dependency));
+            publishNodes(parents);
         }
     }
 
     @Override
     public void addDependency(Class<? extends Object> dependency) {
-        applicationDependencyClasses.add(dependency);
+        synchronized (registrationLock) {
+            if(!applicationDependencyClasses.add(dependency) || !initialized){
+                return;
+            }
+            List<Class<?>> types = addInDependecyMap(dependency);
+            List<DependencyManagerStorage> addedStorages = new ArrayList<>();
+            for (DependencyManagerStorage managerStorage : dependencyMap.getOrDefault(dependency, Collections.emptyList())) {
+                if(managerStorage.getDependencyClass() == dependency){
+                    defineActivatorFunction(managerStorage);
+                    addedStorages.add(managerStorage);
+                }
+            }
+            try {
+                verifyScopes(addedStorages);
+            } catch (DependencyManagerInitializeException e) {
+                removeDependency(dependency);
+                throw e;
+            }
+            publishNodes(types);
+        }
     }
 
     @Override
-    public DependencyResultGet getDependency(Class<? extends Object> dependencyToCreate){
-        String qualifier = "default";
-        if(dependencyToCreate.isAnnotationPresent(Inject.class)){
-            Inject inject = dependencyToCreate.getAnnotation(Inject.class);
-            qualifier = inject.qualifier();
-        }
-        return getDependency(dependencyToCreate, qualifier);
+    public boolean removeDependency(Class<?> dependencyClass) {
+        return removeDependency(dependencyClass, null);
     }
 
     @Override
-    public DependencyResultGet getDependency(Class<? extends Object> dependencyToCreate, String qualifier) {
-        qualifier = (qualifier == null || qualifier.isEmpty()) ? "default" : qualifier;
-        Map<String, DependencyManagerStorage> node = dependencyMap.getOrDefault(dependencyToCreate, new HashMap<>());
-        DependencyManagerStorage dependencyStorage = node.getOrDefault(qualifier, null);
+    public boolean removeDependency(Class<?> dependencyClass, String qualifier) {
+        List<Class<?>> types = TypeClosure.getAssignableTypes(dependencyClass);
+        synchronized (registrationLock) {
+            boolean removed = false;
+            boolean remaining = false;
+            for (Class<?> type : types) {
+                List<DependencyManagerStorage> node = dependencyMap.get(type);
+                if(node == null){
+                    continue;
+                }
+                for (DependencyManagerStorage managerStorage : node) {
+                    if(managerStorage.getDependencyClass() != dependencyClass){
+                        continue;
+                    }
+                    if(qualifier == null || qualifier.equals(managerStorage.getQualifier())){
+                        node.remove(managerStorage);
+                        managerStorage.setActivationFunction(null);
+                        removed = true;
+                    }else{
+                        remaining = true;
+                    }
+                }
+                if(node.isEmpty()){
+                    dependencyMap.remove(type, node);
+                }
+            }
 
-        if(dependencyStorage == null){
-            dependencyStorage = node.getOrDefault("default", null);
-            if (dependencyStorage == null && !node.isEmpty()) {
-                dependencyStorage = node.values().stream().findFirst().orElse(null);
+            if(removed && !remaining){
+                applicationDependencyClasses.remove(dependencyClass);
+                injectionPlans.remove(dependencyClass);
+                dependencyFactories.remove(dependencyClass);
+                singletonCache.remove(dependencyClass);
+                DependencyPool dependencyPool = dependencyPools.remove(dependencyClass);
+                if(dependencyPool != null){
+                    dependencyPool.clear();
+                }
             }
+            if(removed){
+                publishNodes(types);
+            }
+            return removed;
+        }
+    }
+
+    @Override
+    public DependencyResultGet getDependency(Class<? extends Object> dependencyToCreate){
+        return getDependency(dependencyToCreate, "default");
+    }
+
+    @Override
+    public DependencyResultGet getDependency(Class<? extends Object> dependencyToCreate, String qualifier) {
+        DependencyManagerStorage dependencyStorage = findDependencyStorage(dependencyToCreate, qualifier);
+        if(metricsRegistry.isEnabled()){
+            metricsRegistry.recordLookup(dependencyToCreate, dependencyStorage != null);
         }
         if(dependencyStorage == null){
             return new DependencyResultGetStorage(null, dependencyToCreate);
         }
 
-        Object dependency = (dependencyStorage.getActivationFunction() == null) ? null : dependencyStorage.getActivationFunction().get();
-        return new DependencyResultGetStorage(dependency, dependencyToCreate);
+        return new DependencyResultGetStorage(activate(dependencyStorage), dependencyToCreate);
+    }
+
+    @Override
+    public <T> T get(Class<T> dependencyClass) {
+        return get(dependencyClass, "default");
     }
-   
+
+    @Override
+    public <T> T get(Class<T> dependencyClass, String qualifier) {
+        DependencyManagerStorage dependencyStorage = findDependencyStorage(dependencyClass, qualifier);
+        if(metricsRegistry.isEnabled()){
+            metricsRegistry.recordLookup(dependencyClass, dependencyStorage != null);
+        }
+        return (dependencyStorage == null) ? null : dependencyClass.cast(activate(dependencyStorage));
+    }
+
+    @Override
+    public <T> T getOrDefault(Class<T> dependencyClass, T defaultValue) {
+        T dependency = get(dependencyClass, "default");
+        return (dependency == null) ? defaultValue : dependency;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> List<T> getAll(Class<T> dependencyClass) {
+        return (List<T>) new DependencyCollectionResolver(this, dependencyClass, DependencyCollectionResolver.Shape.LIST).resolve();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> Map<String, T> getAllByQualifier(Class<T> dependencyClass) {
+        return (Map<String, T>) new DependencyCollectionResolver(this, dependencyClass, DependencyCollectionResolver.Shape.MAP).resolve();
+    }
+
+    @Override
+    public <T> Provider<T> getProvider(Class<T> dependencyClass) {
+        return getProvider(dependencyClass, "default");
+    }
+
+    @Override
+    public <T> Provider<T> getProvider(Class<T> dependencyClass, String qualifier) {
+        return new DependencyProvider<>(this, dependencyClass, qualifier);
+    }
+
     @Override
     public <T> T doCreate(Class<? extends T> reference){
         try {
-            Object value = createDependencyObjectByClass(reference);
+            Object value = initializeInstance(createDependencyObjectByClass(reference), null);
             return reference.cast(value);
         } catch (Exception e) {
             return null;
@@ -146,8 +405,319 @@ public class DependencyManagerApplication implements DependencyManager{
         return dependencyMap.keySet().stream().map(c -> c.getName()).toList();
     }
 
+    @Override
+    public <T> PooledDependency<T> borrow(Class<T> dependencyClass) {
+        return borrow(dependencyClass, "default");
+    }
+
+    @Override
+    public <T> PooledDependency<T> borrow(Class<T> dependencyClass, String qualifier) {
+        DependencyManagerStorage dependencyStorage = findDependencyStorage(dependencyClass, qualifier);
+        if(dependencyStorage == null || dependencyStorage.getDependencyPool() == null){
+            return null;
+        }
+        Object dependency = activate(dependencyStorage);
+        if(dependency == null){
+            return null;
+        }
+        DependencyPool dependencyPool = dependencyStorage.getDependencyPool();
+        return new PooledDependencyHandle<>(dependencyPool, dependencyClass.cast(dependency));
+    }
+
+    @Override
+    public boolean release(Object dependency) {
+        if(dependency == null){
+            return false;
+        }
+        DependencyPool dependencyPool = dependencyPools.get(dependency.getClass());
+        if(dependencyPool == null){
+            return parent != null && parent.release(dependency);
+        }
+        return dependencyPool.release(dependency);
+    }
+
+    @Override
+    public PoolMetrics getPoolMetrics(Class<?> dependencyClass) {
+        DependencyPool dependencyPool = dependencyPools.get(dependencyClass);
+        if(dependencyPool == null){
+            DependencyManagerStorage dependencyStorage = findDependencyStorage(dependencyClass, "default");
+            dependencyPool = (dependencyStorage == null) ? null : dependencyStorage.getDependencyPool();
+        }
+        return dependencyPool;
+    }
+
+    @Override
+    public Map<Class<?>, PoolMetrics> getPoolMetrics() {
+        return new LinkedHashMap<>(dependencyPools);
+    }
+
+    @Override
+    public ScopeContext openScope() {
+        return scopeRegistry.open();
+    }
+
+    @Override
+    public void closeThreadScope() {
+        scopeRegistry.closeThreadScope();
+    }
+
+    @Override
+    public void close() {
+        if(!closed.compareAndSet(false, true)){
+            return;
+        }
+        long start = System.nanoTime();
+        if(parent == null){
+            scopeRegistry.close();
+        }
+        ShutdownReport singletonReport = new SingletonShutdown(getStorages(), this::findDependencyStorage, containerExecutor.limit(configuration.getWarmUpParallelism()),
+            configuration.getShutdownTimeout(), instrumentation::destroyFailed).run();
+        Map<Class<?>, Throwable> failures = new LinkedHashMap<>(singletonReport.getFailures());
+        int destroyedCount = singletonReport.getDestroyedCount();
+        for (DependencyPool dependencyPool : dependencyPools.values()) {
+            for (Object instance : dependencyPool.drain()) {
+                try {
+                    LifecycleCallbacks.of(instance.getClass()).destroy(instance);
+                    destroyedCount++;
+                } catch (Exception e) {
+                    failures.put(instance.getClass(), e);
+                    instrumentation.destroyFailed(instance.getClass(), e);
+                }
+            }
+        }
+        shutdownReport = new ShutdownReportStorage(Duration.ofNanos(System.nanoTime() - start), destroyedCount, Collections.unmodifiableMap(failures),
+            singletonReport.isTimedOut(), singletonReport.getPendingClasses());
+        instrumentation.shutdownCompleted(shutdownReport);
+        if(ownsContainerExecutor){
+            containerExecutor.close();
+        }
+        if(parent == null){
+            metricsRegistry.unregisterMBean();
+        }
+    }
+
+    @Override
+    public boolean isMetricsEnabled() {
+        return metricsRegistry.isEnabled();
+    }
+
+    @Override
+    public void setMetricsEnabled(boolean enabled) {
+        metricsRegistry.setEnabled(enabled);
+    }
+
+    @Override
+    public DependencyMetrics getMetrics(Class<?> dependencyClass) {
+        return metricsRegistry.getMetrics(dependencyClass);
+    }
+
+    @Override
+    public Map<Class<?>, DependencyMetrics> getMetrics() {
+        return metricsRegistry.snapshot();
+    }
+
+    @Override
+    public List<DependencyMetrics> getMostExpensiveDependencies(int limit) {
+        return metricsRegistry.getMostExpensive(limit);
+    }
+
+    @Override
+    public void resetMetrics() {
+        metricsRegistry.reset();
+    }
+
+    public boolean isClosed(){
+        return closed.get();
+    }
+
+    public boolean awaitInitialization(Duration timeout){
+        List<CompletableFuture<?>> futures = new ArrayList<>();
+        for (PendingInitialization pendingInitialization : pendingInitializations) {
+            futures.add(pendingInitialization.getFuture());
+        }
+        try {
+            CompletableFuture<Void> initialization = CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]));
+            if(timeout == null){
+                initialization.join();
+            }else{
+                initialization.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+            }
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException | CompletionException e) {
+            return true;
+        }
+    }
+
+    public List<BeanReadiness> getInitializationReadiness(){
+        List<BeanReadiness> readiness = new ArrayList<>();
+        for (PendingInitialization pendingInitialization : pendingInitializations) {
+            readiness.add(pendingInitialization.toReadiness());
+        }
+        return readiness;
+    }
+
+    @Override
+    public DependencyManager createChild() {
+        return new DependencyManagerApplication(this);
+    }
+
+    long getResolutionVersion(){
+        ResolutionIndex index = resolutionIndex;
+        if(index == null){
+            return -1;
+        }
+        if(parent == null){
+            return index.getVersion();
+        }
+        long parentVersion = parent.getResolutionVersion();
+        return (parentVersion < 0) ? -1 : index.getVersion() + parentVersion;
+    }
+
+    DependencyManagerStorage findDependencyStorage(Class<?> dependencyToCreate, String qualifier){
+        qualifier = (qualifier == null || qualifier.isEmpty()) ? "default" : qualifier;
+        DependencyManagerStorage dependencyStorage = findLocalDependencyStorage(dependencyToCreate, qualifier);
+        if(parent == null || (dependencyStorage != null && qualifier.equals(dependencyStorage.getQualifier()))){
+            return dependencyStorage;
+        }
+        DependencyManagerStorage inheritedStorage = parent.findDependencyStorage(dependencyToCreate, qualifier);
+        return (inheritedStorage != null) ? inheritedStorage : dependencyStorage;
+    }
+
+    private DependencyManagerStorage findLocalDependencyStorage(Class<?> dependencyToCreate, String qualifier){
+        ResolutionIndex index = resolutionIndex;
+        if(index != null){
+            return index.find(dependencyToCreate, qualifier);
+        }
+
+        List<DependencyManagerStorage> node = dependencyMap.get(dependencyToCreate);
+        if(node == null || node.isEmpty()){
+            return null;
+        }
+        return new ResolutionNode(node).find(qualifier);
+    }
+
+    private DependencyManagerStorage findRegisteredStorage(Class<?> dependencyClass, String qualifier){
+        for (DependencyManagerStorage dependencyStorage : dependencyMap.getOrDefault(dependencyClass, Collections.emptyList())) {
+            if(dependencyStorage.getDependencyClass() == dependencyClass && qualifier.equals(dependencyStorage.getQualifier())){
+                return dependencyStorage;
+            }
+        }
+        return null;
+    }
+
+    private List<DependencyManagerStorage> getStorages(){
+        Set<DependencyManagerStorage> storages = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<DependencyManagerStorage> orderedStorages = new ArrayList<>();
+        for (List<DependencyManagerStorage> node : dependencyMap.values()) {
+            for (DependencyManagerStorage dependencyStorage : node) {
+                if(storages.add(dependencyStorage)){
+                    orderedStorages.add(dependencyStorage);
+                }
+            }
+        }
+        return orderedStorages;
+    }
+
+    ResolutionNode getResolutionNode(Class<?> dependencyClass){
+        ResolutionNode localNode = getLocalResolutionNode(dependencyClass);
+        ResolutionNode inheritedNode = (parent == null) ? null : parent.getResolutionNode(dependencyClass);
+        if(inheritedNode == null || localNode == null){
+            return (localNode == null) ? inheritedNode : localNode;
+        }
+
+        List<DependencyManagerStorage> mergedNode = new ArrayList<>();
+        Set<String> localQualifiers = new HashSet<>();
+        for (int i = 0; i < localNode.size(); i++) {
+            mergedNode.add(localNode.getStorage(i));
+            localQualifiers.add(localNode.getQualifier(i));
+        }
+        for (int i = 0; i < inheritedNode.size(); i++) {
+            if(!localQualifiers.contains(inheritedNode.getQualifier(i))){
+                mergedNode.add(inheritedNode.getStorage(i));
+            }
+        }
+        return new ResolutionNode(mergedNode);
+    }
+
+    private ResolutionNode getLocalResolutionNode(Class<?> dependencyClass){
+        ResolutionIndex index = resolutionIndex;
+        if(index != null){
+            return index.getNode(dependencyClass);
+        }
+        List<DependencyManagerStorage> node = dependencyMap.get(dependencyClass);
+        return (node == null || node.isEmpty()) ? null : new ResolutionNode(node);
+    }
+
+    private Object activate(DependencyManagerStorage dependencyStorage){
+        Supplier<Object> activationFunction = dependencyStorage.getActivationFunction();
+        return (activationFunction == null) ? null : activationFunction.get();
+    }
+
+    private void freezeResolutionIndex(){
+        synchronized (registrationLock) {
+            ResolutionIndex index = resolutionIndex;
+            resolutionIndex = ResolutionIndex.freeze(dependencyMap, (index == null) ? 0 : index.getVersion() + 1);
+        }
+    }
+
+    private void publishNodes(List<Class<?>> types){
+        ResolutionIndex index = resolutionIndex;
+        if(!initialized || index == null){
+            return;
+        }
+        Map<Class<?>, List<DependencyManagerStorage>> changedNodes = new HashMap<>();
+        for (Class<?> type : types) {
+            changedNodes.put(type, dependencyMap.get(type));
+        }
+        resolutionIndex = index.withNodes(changedNodes);
+    }
+
+    public StartupSnapshot createStartupSnapshot(long classpathKey, Set<Class<?>> snapshotClasses){
+        List<StartupSnapshot.Registration> registrations = new ArrayList<>();
+        for (Class<?> clazz : applicationDependencyClasses) {
+            registrations.add(getRegistration(clazz));
+        }
+        return new StartupSnapshot(classpathKey, snapshotClasses, registrations);
+    }
+
+    public Set<Class<?>> getRequiredTypes(Class<?> dependencyClass){
+        Set<Class<?>> requiredTypes = new HashSet<>();
+        Set<Class<?>> visited = new HashSet<>();
+        Deque<Class<?>> pending = new ArrayDeque<>();
+        pending.add(dependencyClass);
+        while (!pending.isEmpty()) {
+            Class<?> current = pending.poll();
+            DependencyInjectionPlan injectionPlan = (visited.add(current)) ? getInjectionPlan(current) : null;
+            if(injectionPlan == null){
+                continue;
+            }
+            List<InjectionPoint> injectionPoints = new ArrayList<>(Arrays.asList(injectionPlan.getParameters()));
+            injectionPoints.addAll(Arrays.asList(injectionPlan.getFields()));
+            for (InjectionPoint injectionPoint : injectionPoints) {
+                if(injectionPoint.getKind() == InjectionKind.PROVIDER || injectionPoint.getKind() == InjectionKind.LAZY){
+                    continue;
+                }
+                requiredTypes.add(injectionPoint.getType());
+                DependencyManagerStorage target = findDependencyStorage(injectionPoint.getType(), injectionPoint.getQualifier());
+                if(target != null && target.getDependencyClass() != null){
+                    pending.add(target.getDependencyClass());
+                }
+            }
+        }
+        return requiredTypes;
+    }
+
     private void findServices(){
-        if(applicationClasses.isEmpty()){
+        if(startupSnapshot != null){
+            for (StartupSnapshot.Registration registration : startupSnapshot.getRegistrations()) {
+                applicationDependencyClasses.add(registration.getDependencyClass());
+            }
+        }else if(applicationClasses.isEmpty()){
             applicationDependencyClasses.addAll(classFinder.find(new ClassFinderConfigurations(){
                 @Override
                 public Class<? extends Annotation> getFilterByAnnotation() {
@@ -155,58 +725,70 @@ public class DependencyManagerApplication implements DependencyManager{
                 } 
             }));
         }else{
-            applicationDependencyClasses.addAll(applicationClasses.parallelStream().filter(c -> c.isAnnotationPresent(Injectable.class)).toList());
+            applicationDependencyClasses.addAll(containerExecutor.filter(applicationClasses, c -> c.isAnnotationPresent(Injectable.class)));
         }
     }
 
-    private void addInDependecyMap(Class<?> clazz){
-        Map<String, DependencyManagerStorage> node = dependencyMap.getOrDefault(clazz, new ConcurrentHashMap<>());
-        DependencyManagerStorage dependencyStorage = node.getOrDefault(node, null);
+    private List<Class<?>> addInDependecyMap(Class<?> clazz){
+        StartupSnapshot.Registration registration = getRegistration(clazz);
+        String qualifier = registration.getQualifier();
+        List<Class<?>> types = new ArrayList<>();
+        types.add(clazz);
 
-        if (dependencyStorage == null) {
-            String qualifier = "default";
-            DependencyCreatorType strategy = DependencyCreatorType.SINGLETON;
-            if(clazz.isAnnotationPresent(Injectable.class)){
-                Injectable injectable = clazz.getAnnotation(Injectable.class);
-                qualifier = injectable.qualifier();
-                strategy = injectable.createStrategy();
-            }
-            boolean containsFielInject = containsFielInject(clazz);
-            dependencyStorage = new DependencyManagerStorage(strategy, containsFielInject, clazz, () -> null);
-            List<Class<?>> parents = getParentClassList(clazz);
-            addDependecyParent(parents, clazz, qualifier, strategy, containsFielInject);
-            node.put(qualifier, dependencyStorage);
-            dependencyMap.put(clazz, node);
+        if (findRegisteredStorage(clazz, qualifier) == null) {
+            DependencyCreatorType strategy = registration.getCreatorStrategy();
+            boolean containsFielInject = registration.isContainsFielInject();
+            DependencyManagerStorage dependencyStorage = createDependencyStorage(strategy, qualifier, containsFielInject, clazz, () -> null);
+            addDependecyParent(registration.getParentClasses(), dependencyStorage);
+            dependencyMap.computeIfAbsent(clazz, c -> new CopyOnWriteArrayList<>()).add(dependencyStorage);
+            types.addAll(registration.getParentClasses());
+        }
+        return types;
+    }
+
+    private StartupSnapshot.Registration getRegistration(Class<?> clazz){
+        StartupSnapshot.Registration registration = (startupSnapshot == null) ? null : startupSnapshot.getRegistration(clazz);
+        if(registration != null){
+            return registration;
         }
 
+        String qualifier = "default";
+        DependencyCreatorType strategy = DependencyCreatorType.SINGLETON;
+        if(clazz.isAnnotationPresent(Injectable.class)){
+            Injectable injectable = clazz.getAnnotation(Injectable.class);
+            qualifier = injectable.qualifier();
+            strategy = injectable.createStrategy();
+        }
+        return new StartupSnapshot.Registration(clazz, qualifier, strategy, containsFielInject(clazz), TypeClosure.getSupertypes(clazz));
     }
 
-    private void addDependecyParent(List<Class<?>> parentClass, Class<?> clazzBase, String qualifier, DependencyCreatorType strategy, boolean containsFielInject){
+    private void addDependecyParent(List<Class<?>> parentClass, DependencyManagerStorage dependencyStorage){
         if(parentClass != null){
             for (Class<?> parent : parentClass) {
-                Map<String, DependencyManagerStorage> node = dependencyMap.getOrDefault(parent, new ConcurrentHashMap<>());
-                DependencyManagerStorage dependencyStorage = node.getOrDefault(qualifier, null);
-                if (dependencyStorage == null){
-                    dependencyStorage = new DependencyManagerStorage(strategy, containsFielInject, clazzBase, () -> null);
-                    node.put(qualifier, dependencyStorage);
-                    dependencyMap.put(parent, node);
-                }
+                dependencyMap.computeIfAbsent(parent, c -> new CopyOnWriteArrayList<>()).add(dependencyStorage);
             }
         }
     }
 
-    private List<Class<?>> getParentClassList(Class<?> clazzBase){
-        List<Class<?>> interfaces = new ArrayList<>();
-        interfaces.addAll(Arrays.asList(clazzBase.getInterfaces()));
-        Class<?> superClass = clazzBase.getSuperclass();
-
-        while (superClass != null && superClass != Object.class) {
-            interfaces.add(superClass);
-            interfaces.addAll(Arrays.asList(superClass.getInterfaces())); 
-            superClass = superClass.getSuperclass();
-        }
+    private DependencyManagerStorage createDependencyStorage(DependencyCreatorType strategy, String qualifier, boolean containsFielInject, Class<?> dependencyClass, Supplier<Object> activationFunction){
+        return DependencyManagerStorage.builder()
+            .creatorStrategy(strategy)
+            .qualifier(qualifier)
+            .containsFielInject(containsFielInject)
+            .dependencyClass(dependencyClass)
+            .activationFunction(activationFunction)
+            .singletonHolder(getSingletonHolder(dependencyClass))
+            .scopeSlot(ScopeRegistry.isScoped(strategy) ? scopeRegistry.getSlot(dependencyClass) : -1)
+            .dependencyPool((strategy == DependencyCreatorType.POOLED) ? getDependencyPool(dependencyClass) : null)
+            .build();
+    }
 
-        return interfaces;
+    private DependencyPool getDependencyPool(Class<?> dependencyClass){
+        return dependencyPools.computeIfAbsent(dependencyClass, c -> {
+            Injectable injectable = c.getAnnotation(Injectable.class);
+            int poolSize = (injectable != null && injectable.poolSize() > 0) ? injectable.poolSize() : configuration.getDefaultPoolSize();
+            return new DependencyPool(c, poolSize);
+        });
     }
 
     private boolean containsFielInject(Class<?> dependency){
@@ -221,114 +803,271 @@ public class DependencyManagerApplication implements DependencyManager{
     }
 
     private void defineActivatorFuntions(){
-        for (Map.Entry<Class<?>, Map<String, DependencyManagerStorage>> dependencyNode : dependencyMap.entrySet()) {
-            for (Map.Entry<String, DependencyManagerStorage> dependencyElement : dependencyNode.getValue().entrySet()){
-                DependencyManagerStorage managerStorage = dependencyElement.getValue();
-
-                if(managerStorage.getCreatorStrategy() == DependencyCreatorType.SINGLETON){
-                    managerStorage.setActivationFunction(() -> getByCache(managerStorage));
-                }else{
-                    managerStorage.setActivationFunction(() -> createDependencyObject(managerStorage));
+        injectionPlans.clear();
+        for (DependencyManagerStorage dependencyStorage : getStorages()) {
+            defineActivatorFunction(dependencyStorage);
+        }
+    }
+
+    private void defineActivatorFunction(DependencyManagerStorage managerStorage){
+        managerStorage.setInjectionPlan(getInjectionPlan(managerStorage.getDependencyClass()));
+        Supplier<Object> dependencyCreator = getDependencyCreator(managerStorage);
+
+        if(managerStorage.getCreatorStrategy() == DependencyCreatorType.SINGLETON){
+            managerStorage.setActivationFunction(() -> getByCache(managerStorage, dependencyCreator));
+        }else if(managerStorage.getCreatorStrategy() == DependencyCreatorType.POOLED){
+            DependencyPool dependencyPool = managerStorage.getDependencyPool();
+            managerStorage.setActivationFunction(() -> dependencyPool.borrow(dependencyCreator));
+        }else if(ScopeRegistry.isScoped(managerStorage.getCreatorStrategy())){
+            managerStorage.setActivationFunction(() -> scopeRegistry.getScoped(managerStorage, dependencyCreator));
+        }else{
+            managerStorage.setActivationFunction(dependencyCreator);
+        }
+    }
+
+    private void verifyScopes(Collection<DependencyManagerStorage> storages){
+        List<String> problems = new ArrayList<>();
+        for (DependencyManagerStorage managerStorage : storages) {
+            int scopeWidth = getScopeWidth(managerStorage.getCreatorStrategy());
+            SingletonHolder singletonHolder = managerStorage.getSingletonHolder();
+            if(singletonHolder == null || !singletonHolder.isCreated()){
+                collectScopeProblems(managerStorage, scopeWidth, managerStorage.getInjectionPlan(), problems, Collections.newSetFromMap(new IdentityHashMap<>()));
+            }
+        }
+        if(!problems.isEmpty()){
+            throw new DependencyManagerInitializeException("Injection validation failed (" + problems.size() + " problem(s))" + System.lineSeparator() + "  - " + String.join(System.lineSeparator() + "  - ", problems));
+        }
+    }
+
+    private void collectScopeProblems(DependencyManagerStorage consumer, int scopeWidth, DependencyInjectionPlan injectionPlan, List<String> problems, Set<DependencyInjectionPlan> visited){
+        if(injectionPlan == null || !visited.add(injectionPlan)){
+            return;
+        }
+        List<InjectionPoint> injectionPoints = new ArrayList<>(Arrays.asList(injectionPlan.getParameters()));
+        injectionPoints.addAll(Arrays.asList(injectionPlan.getFields()));
+        for (InjectionPoint injectionPoint : injectionPoints) {
+            List<DependencyManagerStorage> targets = new ArrayList<>();
+            if(injectionPoint.getKind() == InjectionKind.MULTIPLE){
+                ResolutionNode node = ((DependencyCollectionResolver) injectionPoint.getHandle()).getResolutionNode();
+                for (int i = 0; node != null && i < node.size(); i++) {
+                    targets.add(node.getStorage(i));
+                }
+            }else if(injectionPoint.getKind() != InjectionKind.PROVIDER && injectionPoint.getTarget() != null){
+                targets.add(injectionPoint.getTarget());
+            }
+
+            for (DependencyManagerStorage target : targets) {
+                int targetWidth = getScopeWidth(target.getCreatorStrategy());
+                if(target.getCreatorStrategy() == DependencyCreatorType.POOLED){
+                    if(injectionPlan == consumer.getInjectionPlan()){
+                        problems.add("POOLED " + target.getDependencyClass().getName() + " can not be injected into " + consumer.getDependencyClass().getName()
+                            + " because it would never be returned to its pool; inject Provider<" + injectionPoint.getType().getSimpleName() + "> and release it, or use borrow()");
+                    }
+                }else if(injectionPoint.getKind() == InjectionKind.LAZY){
+                    continue;
+                }else if(targetWidth < 0){
+                    if(scopeWidth > 0){
+                        collectScopeProblems(consumer, scopeWidth, target.getInjectionPlan(), problems, visited);
+                    }
+                }else if(targetWidth < scopeWidth){
+                    problems.add(target.getCreatorStrategy() + " " + target.getDependencyClass().getName() + " can not be injected into "
+                        + consumer.getCreatorStrategy() + " " + consumer.getDependencyClass().getName() + " through " + injectionPlan.getDependencyClass().getName()
+                        + "; inject Provider<" + injectionPoint.getType().getSimpleName() + "> or mark the interface injection point @Lazy");
                 }
             }
         }
     }
 
-    private Object getByCache(DependencyManagerStorage managerStorage){
-        Class<?> clazz = managerStorage.getDependencyClass();
-        if(!singletonCache.containsKey(clazz)){
-            final Object instance = createDependencyObject(managerStorage);
-            singletonCache.put(clazz, instance);
+    private static int getScopeWidth(DependencyCreatorType strategy){
+        if(strategy == DependencyCreatorType.PROTOTYPE){
+            return -1;
+        }
+        if(strategy == DependencyCreatorType.REQUEST){
+            return 0;
         }
-        return singletonCache.get(clazz);
+        return (strategy == DependencyCreatorType.THREAD) ? 1 : 2;
     }
 
-    private Object getByCache(DependencyManagerStorage managerStorage, Object val){
-        Class<?> clazz = managerStorage.getDependencyClass();
-        if(!singletonCache.containsKey(clazz)){
-            final Object instance = val;
-            singletonCache.put(clazz, instance);
+    private Supplier<Object> getDependencyCreator(DependencyManagerStorage managerStorage){
+        if(configuration.getFactoryMode() == DependencyFactoryMode.METHOD_HANDLE){
+            DependencyInjectionPlan injectionPlan = managerStorage.getInjectionPlan();
+            MethodHandleDependencyFactory dependencyFactory = (injectionPlan == null) ? null : dependencyFactories.computeIfAbsent(managerStorage.getDependencyClass(), c -> MethodHandleDependencyFactory.of(injectionPlan));
+            if(dependencyFactory != null){
+                return () -> metricsRegistry.measureCreation(managerStorage, () -> instrumentation.measureCreation(managerStorage, () -> initializeInstance(dependencyFactory.create(this), managerStorage)));
+            }
         }
-        return singletonCache.get(clazz);
+        return () -> metricsRegistry.measureCreation(managerStorage, () -> instrumentation.measureCreation(managerStorage, () -> initializeInstance(createDependencyObject(managerStorage), managerStorage)));
     }
 
-    private Object createDependencyObjectByClass(Class<?> reference) throws Exception{
-        Object instance = createDependencyObjectByContructor(reference);
-        boolean containsFielInject = containsFielInject(reference);
-        if(containsFielInject){
-            List<Field> fields = Arrays.asList(reference.getDeclaredFields())
-            .stream()
-            .filter(f -> f.isAnnotationPresent(Inject.class))
-            .toList();
-
-            for (Field field : fields) {
-                Inject inject = field.getAnnotation(Inject.class);
-                Object value = null;
-                if(!field.canAccess(instance)){
-                    field.setAccessible(true);
-                } 
-                Class<?> fieldType = field.getType();
-                DependencyResultGet dependency = getDependency(fieldType, inject.qualifier());
-                if(dependency.exists()){
-                    value = dependency.getDependency();
-                }
-                field.set(instance, value);
+    private Object initializeInstance(Object instance, DependencyManagerStorage managerStorage){
+        if(instance == null){
+            return null;
+        }
+        LifecycleCallbacks callbacks = LifecycleCallbacks.of(instance.getClass());
+        if(!callbacks.hasPostConstruct()){
+            return instance;
+        }
+        long start = System.nanoTime();
+        boolean tracked = managerStorage != null && managerStorage.getCreatorStrategy() == DependencyCreatorType.SINGLETON;
+        String name = instance.getClass().getName()+"."+callbacks.getPostConstructMethods().stream().map(Method::getName).collect(Collectors.joining("+"));
+        try {
+            CompletableFuture<?> initialization = callbacks.postConstruct(instance);
+            if(initialization != null && tracked){
+                pendingInitializations.add(new PendingInitialization(name, instance.getClass(), managerStorage.getQualifier(), start, initialization));
+            }
+            return instance;
+        } catch (Throwable e) {
+            if(tracked){
+                pendingInitializations.add(new PendingInitialization(name, instance.getClass(), managerStorage.getQualifier(), start, CompletableFuture.failedFuture(e)));
             }
+            throw new DependencyManagerInitializeException("PostConstruct failed for " + name, e);
         }
-        return instance;
+    }
+
+    private Object getByCache(DependencyManagerStorage managerStorage, Supplier<Object> dependencyCreator){
+        SingletonHolder singletonHolder = managerStorage.getSingletonHolder();
+        if(singletonHolder == null){
+            singletonHolder = getSingletonHolder(managerStorage.getDependencyClass());
+            managerStorage.setSingletonHolder(singletonHolder);
+        }
+        return singletonHolder.get(dependencyCreator);
+    }
+
+    private SingletonHolder getSingletonHolder(Class<?> dependencyClass){
+        return singletonCache.computeIfAbsent(dependencyClass, c -> new SingletonHolder());
+    }
+
+    private Object createDependencyObjectByClass(Class<?> reference) throws Exception{
+        return getInjectionPlan(reference).create(this);
     }
 
     private Object createDependencyObject(DependencyManagerStorage managerStorage){
         try {
-            Class<?> dependencyClass = managerStorage.getDependencyClass();
-            Object instance = createDependencyObjectByContructor(dependencyClass);
-            if (managerStorage.isContainsFielInject()){
-                List<Field> fields = Arrays.asList(dependencyClass.getDeclaredFields())
-                    .stream()
-                    .filter(f -> f.isAnnotationPresent(Inject.class))
-                    .toList();
-
-                for (Field field : fields) {
-                    Inject inject = field.getAnnotation(Inject.class);
-                    Object value = null;
-                    if(!field.canAccess(instance)){
-                        field.setAccessible(true);
-                    } 
-                    Class<?> fieldType = field.getType();
-                    DependencyResultGet dependency = getDependency(fieldType, inject.qualifier());
-                    if(dependency.exists()){
-                        value = dependency.getDependency();
-                    }
-                    field.set(instance, value);
-                }
+            DependencyInjectionPlan injectionPlan = managerStorage.getInjectionPlan();
+            if(injectionPlan == null){
+                injectionPlan = getInjectionPlan(managerStorage.getDependencyClass());
             }
-            return instance;
+            return injectionPlan.create(this);
+        }catch(DependencyManagerInitializeException e){
+            throw e;
         }catch(Exception e){
             return null;
         }
     }
 
-    private Object createDependencyObjectByContructor(Class<?> dependencyClass) throws InvocationTargetException, InstantiationException, IllegalAccessException, IllegalArgumentException{
-        Constructor<?> constructor = getMinArgsContructor(dependencyClass.getConstructors());
-        Class<?>[] parametersType = constructor.getParameterTypes();
-        Object[] args = new Object[parametersType.length];
-        if(constructor.getParameterCount() > 0){
-            for(int i = 0; i < parametersType.length; i++){
-                Class<?> class1 = parametersType[i];
-                String qualifier = "default";
-                if(class1.isAnnotationPresent(Inject.class)){
-                    Inject inject = class1.getAnnotation(Inject.class);
-                    qualifier = inject.qualifier();
-                }
-                DependencyResultGet dependencyResultGet = getDependency(class1, qualifier);
-                if(dependencyResultGet.exists()){
-                    args[i] = dependencyResultGet.getDependency();
-                }else{
-                    args[i] = null;
+    private DependencyInjectionPlan getInjectionPlan(Class<?> dependencyClass){
+        try {
+            return injectionPlans.computeIfAbsent(dependencyClass, this::createInjectionPlan);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private DependencyInjectionPlan createInjectionPlan(Class<?> dependencyClass){
+        Constructor<?> constructor = getInjectableConstructor(dependencyClass);
+        if(constructor == null){
+            return null;
+        }
+
+        Parameter[] parametersType = constructor.getParameters();
+        InjectionPoint[] parameters = new InjectionPoint[parametersType.length];
+        for(int i = 0; i < parametersType.length; i++){
+            Parameter parameter = parametersType[i];
+            String qualifier = "default";
+            if(parameter.isAnnotationPresent(Inject.class)){
+                Inject inject = parameter.getAnnotation(Inject.class);
+                qualifier = inject.qualifier();
+            }
+            parameters[i] = createInjectionPoint(parameter.getType(), parameter.getParameterizedType(), qualifier, null, parameter.isAnnotationPresent(Lazy.class));
+        }
+
+        List<InjectionPoint> fields = new ArrayList<>();
+        for (Field field : dependencyClass.getDeclaredFields()) {
+            if(field.isAnnotationPresent(Inject.class)){
+                Inject inject = field.getAnnotation(Inject.class);
+                field.setAccessible(true);
+                fields.add(createInjectionPoint(field.getType(), field.getGenericType(), inject.qualifier(), field, field.isAnnotationPresent(Lazy.class)));
+            }
+        }
+
+        return new DependencyInjectionPlan(dependencyClass, constructor, parameters, fields.toArray(new InjectionPoint[0]));
+    }
+
+    private InjectionPoint createInjectionPoint(Class<?> type, Type genericType, String qualifier, Field field, boolean lazy){
+        DependencyCollectionResolver.Shape shape = getCollectionShape(type);
+        Class<?> elementType = (shape == null) ? null : getElementType(type, genericType, shape);
+        if(elementType != null && findDependencyStorage(type, qualifier) == null){
+            return new InjectionPoint(elementType, qualifier, field, null, InjectionKind.MULTIPLE, new DependencyCollectionResolver(this, elementType, shape));
+        }
+
+        Class<?> providedType = getProvidedType(type, genericType);
+        if(providedType != null){
+            DependencyManagerStorage target = findDependencyStorage(providedType, qualifier);
+            return new InjectionPoint(providedType, qualifier, field, target, InjectionKind.PROVIDER, getProvider(providedType, qualifier));
+        }
+
+        DependencyManagerStorage target = findDependencyStorage(type, qualifier);
+        if(type.isInterface() && (lazy || isLazyDependency(target))){
+            return new InjectionPoint(type, qualifier, field, target, InjectionKind.LAZY, LazyDependencyHandler.newProxyFactory(type, getProvider(type, qualifier), (target == null) ? null : target.getCreatorStrategy()));
+        }
+        return new InjectionPoint(type, qualifier, field, target, InjectionKind.DIRECT, null);
+    }
+
+    private boolean isLazyDependency(DependencyManagerStorage target){
+        return target != null && target.getDependencyClass() != null && target.getDependencyClass().isAnnotationPresent(Lazy.class);
+    }
+
+    private DependencyCollectionResolver.Shape getCollectionShape(Class<?> type){
+        if(type.isArray()){
+            return (type.getComponentType().isPrimitive()) ? null : DependencyCollectionResolver.Shape.ARRAY;
+        }
+        if(type == List.class || type == Collection.class || type == Iterable.class){
+            return DependencyCollectionResolver.Shape.LIST;
+        }
+        return (type == Map.class) ? DependencyCollectionResolver.Shape.MAP : null;
+    }
+
+    private Class<?> getElementType(Class<?> type, Type genericType, DependencyCollectionResolver.Shape shape){
+        if(shape == DependencyCollectionResolver.Shape.ARRAY){
+            return type.getComponentType();
+        }
+        if(!(genericType instanceof ParameterizedType parameterizedType)){
+            return null;
+        }
+        Type[] arguments = parameterizedType.getActualTypeArguments();
+        if(shape == DependencyCollectionResolver.Shape.MAP && arguments[0] != String.class){
+            return null;
+        }
+        return getRawClass(arguments[arguments.length - 1]);
+    }
+
+    private Class<?> getRawClass(Type type){
+        if(type instanceof Class<?> typeClass){
+            return typeClass;
+        }
+        if(type instanceof ParameterizedType parameterizedType && parameterizedType.getRawType() instanceof Class<?> rawClass){
+            return rawClass;
+        }
+        return null;
+    }
+
+    private Class<?> getProvidedType(Class<?> type, Type genericType){
+        if((type != Provider.class && type != Supplier.class) || !(genericType instanceof ParameterizedType)){
+            return null;
+        }
+        return getRawClass(((ParameterizedType) genericType).getActualTypeArguments()[0]);
+    }
+
+    private Constructor<?> getInjectableConstructor(Class<?> dependencyClass){
+        for (Constructor<?> constructor : dependencyClass.getDeclaredConstructors()) {
+            if(constructor.isAnnotationPresent(Inject.class)){
+                if(!Modifier.isPublic(constructor.getModifiers()) || !Modifier.isPublic(dependencyClass.getModifiers())){
+                    constructor.setAccessible(true);
                 }
+                return constructor;
             }
         }
-        return constructor.newInstance();
+        return getMinArgsContructor(dependencyClass.getConstructors());
     }
 
     private Constructor<?> getMinArgsContructor(Constructor<?>[] all){
@@ -340,12 +1079,12 @@ public class DependencyManagerApplication implements DependencyManager{
     }
 
     private void autoInject(){
-        singletonCache.put(getClass(), getThis());
-        singletonCache.put(DependencyManager.class, getThis());
-        Map<String, DependencyManagerStorage> node = dependencyMap.getOrDefault(DependencyManager.class, new HashMap<>());
-        DependencyManagerStorage creatorManagerStorage = node.getOrDefault("default", new DependencyManagerStorage(DependencyCreatorType.SINGLETON, false, getClass(), () -> getThis()));
-        node.put("default", creatorManagerStorage);
-        dependencyMap.put(DependencyManager.class, node);
+        getSingletonHolder(getClass()).setInstance(getThis());
+        getSingletonHolder(DependencyManager.class).setInstance(getThis());
+        List<DependencyManagerStorage> node = dependencyMap.computeIfAbsent(DependencyManager.class, c -> new CopyOnWriteArrayList<>());
+        if(node.isEmpty()){
+            node.add(createDependencyStorage(DependencyCreatorType.SINGLETON, "default", false, getClass(), () -> getThis()));
+        }
     }
 
     private DependencyManager getThis(){
@@ -353,12 +1092,11 @@ public class DependencyManagerApplication implements DependencyManager{
     }
 
     public void printConsole(){
-        for (Map.Entry<Class<?>, Map<String, DependencyManagerStorage>> entry : dependencyMap.entrySet()) {
+        for (Map.Entry<Class<?>, List<DependencyManagerStorage>> entry : dependencyMap.entrySet()) {
             System.out.println("Classe: " + entry.getKey().getName());
-            for (Map.Entry<String, DependencyManagerStorage> innerEntry : entry.getValue().entrySet()) {
-                DependencyManagerStorage storage = innerEntry.getValue();
+            for (DependencyManagerStorage storage : entry.getValue()) {
                 Object object = storage.getActivationFunction().get();
-                System.out.println("  Chave: " + innerEntry.getKey());
+                System.out.println("  Chave: " + storage.getQualifier());
                 System.out.println("    Creator Strategy: " + storage.getCreatorStrategy());
                 System.out.println("    Contains Field Inject: " + storage.isContainsFielInject());
                 System.out.println("    Dependency Class: " + (storage.getDependencyClass() != null ? storage.getDependencyClass().getName() : "N/A"));
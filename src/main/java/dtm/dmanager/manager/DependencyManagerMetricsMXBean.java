@@ -0,0 +1,13 @@
+package dtm.dmanager.manager;
+
+public interface DependencyManagerMetricsMXBean {
+    boolean isEnabled();
+    void setEnabled(boolean enabled);
+    int getTrackedTypes();
+    long getLookups();
+    long getMisses();
+    long getCreations();
+    long getCreationFailures();
+    String[] getMostExpensive();
+    void reset();
+}
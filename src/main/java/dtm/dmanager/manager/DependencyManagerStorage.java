@@ -14,7 +14,13 @@ import lombok.NoArgsConstructor;
 @Builder
 public class DependencyManagerStorage {
     private DependencyCreatorType creatorStrategy;
+    private String qualifier;
     private boolean containsFielInject;
     private Class<?> dependencyClass;
     private Supplier<Object> activationFunction;
+    private DependencyInjectionPlan injectionPlan;
+    private SingletonHolder singletonHolder;
+    private int scopeSlot;
+    private DependencyPool dependencyPool;
+    private boolean externallyProvided;
 }
@@ -0,0 +1,106 @@
+package dtm.dmanager.manager;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import dtm.dmanager.core.DependencyMetrics;
+
+public class DependencyMetricsRecorder {
+
+    private final Class<?> dependencyClass;
+    private final LongAdder lookups;
+    private final LongAdder misses;
+    private final LongAdder creations;
+    private final LongAdder creationFailures;
+    private final LongAdder totalCreationNanos;
+    private final LongAccumulator maxCreationNanos;
+    private volatile LatencyHistogram creationHistogram;
+
+    public DependencyMetricsRecorder(Class<?> dependencyClass){
+        this.dependencyClass = dependencyClass;
+        this.lookups = new LongAdder();
+        this.misses = new LongAdder();
+        this.creations = new LongAdder();
+        this.creationFailures = new LongAdder();
+        this.totalCreationNanos = new LongAdder();
+        this.maxCreationNanos = new LongAccumulator(Long::max, 0);
+    }
+
+    public void recordLookup(boolean hit){
+        lookups.increment();
+        if(!hit){
+            misses.increment();
+        }
+    }
+
+    public void recordCreation(long nanos, boolean created){
+        creations.increment();
+        if(!created){
+            creationFailures.increment();
+        }
+        totalCreationNanos.add(nanos);
+        maxCreationNanos.accumulate(nanos);
+        getCreationHistogram().record(nanos);
+    }
+
+    public long getLookups(){
+        return lookups.sum();
+    }
+
+    public long getMisses(){
+        return misses.sum();
+    }
+
+    public long getCreations(){
+        return creations.sum();
+    }
+
+    public long getCreationFailures(){
+        return creationFailures.sum();
+    }
+
+    public long getTotalCreationNanos(){
+        return totalCreationNanos.sum();
+    }
+
+    public DependencyMetrics snapshot(){
+        LatencyHistogram histogram = creationHistogram;
+        return new DependencyMetricsStorage(
+            dependencyClass,
+            lookups.sum(),
+            misses.sum(),
+            creations.sum(),
+            creationFailures.sum(),
+            totalCreationNanos.sum(),
+            maxCreationNanos.get(),
+            (histogram == null) ? new long[0] : histogram.copy()
+        );
+    }
+
+    public void reset(){
+        lookups.reset();
+        misses.reset();
+        creations.reset();
+        creationFailures.reset();
+        totalCreationNanos.reset();
+        maxCreationNanos.reset();
+        LatencyHistogram histogram = creationHistogram;
+        if(histogram != null){
+            histogram.reset();
+        }
+    }
+
+    private LatencyHistogram getCreationHistogram(){
+        LatencyHistogram histogram = creationHistogram;
+        if(histogram == null){
+            synchronized (this) {
+                histogram = creationHistogram;
+                if(histogram == null){
+                    histogram = new LatencyHistogram();
+                    creationHistogram = histogram;
+                }
+            }
+        }
+        return histogram;
+    }
+}
@@ -0,0 +1,54 @@
+package dtm.dmanager.manager;
+
+import java.time.Duration;
+
+import dtm.dmanager.core.DependencyMetrics;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+@Getter
+public class DependencyMetricsStorage implements DependencyMetrics{
+
+    private final Class<?> dependencyClass;
+    private final long lookups;
+    private final long misses;
+    private final long creations;
+    private final long creationFailures;
+    private final Duration totalCreationTime;
+    private final Duration maxCreationTime;
+    @Getter(AccessLevel.NONE)
+    private final long[] creationBuckets;
+
+    public DependencyMetricsStorage(Class<?> dependencyClass, long lookups, long misses, long creations, long creationFailures, long totalCreationNanos, long maxCreationNanos, long[] creationBuckets){
+        this.dependencyClass = dependencyClass;
+        this.lookups = lookups;
+        this.misses = misses;
+        this.creations = creations;
+        this.creationFailures = creationFailures;
+        this.totalCreationTime = Duration.ofNanos(totalCreationNanos);
+        this.maxCreationTime = Duration.ofNanos(maxCreationNanos);
+        this.creationBuckets = creationBuckets;
+    }
+
+    @Override
+    public long getHits() {
+        return lookups - misses;
+    }
+
+    @Override
+    public Duration getMeanCreationTime() {
+        return (creations == 0) ? Duration.ZERO : totalCreationTime.dividedBy(creations);
+    }
+
+    @Override
+    public Duration getCreationTimePercentile(double percentile) {
+        return Duration.ofNanos(LatencyHistogram.percentile(creationBuckets, percentile, maxCreationTime.toNanos()));
+    }
+
+    @Override
+    public String toString() {
+        return "DependencyMetricsStorage [dependencyClass=" + dependencyClass.getName() + ", lookups=" + lookups + ", misses=" + misses
+                + ", creations=" + creations + ", creationFailures=" + creationFailures + ", totalCreationTime=" + totalCreationTime
+                + ", p50=" + getCreationTimePercentile(50) + ", p99=" + getCreationTimePercentile(99) + ", max=" + maxCreationTime + "]";
+    }
+}
@@ -0,0 +1,233 @@
+package dtm.dmanager.manager;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import dtm.dmanager.core.PoolMetrics;
+import dtm.dmanager.core.annotations.PoolReset;
+
+public class DependencyPool implements PoolMetrics{
+
+    private static final MethodType RESET_TYPE = MethodType.methodType(void.class, Object.class);
+
+    private static final int EMPTY = 0;
+    private static final int IDLE = 1;
+    private static final int BORROWED = 2;
+    private static final int BUSY = 3;
+
+    private final Class<?> dependencyClass;
+    private final int maxSize;
+    private final int stripeMask;
+    private final int stripeSize;
+    private final AtomicReferenceArray<Object>[] stripes;
+    private final AtomicIntegerArray[] states;
+    private final MethodHandle resetMethod;
+
+    private final LongAdder idleCount;
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private final LongAdder returns;
+    private final LongAdder discards;
+
+    public DependencyPool(Class<?> dependencyClass, int maxSize){
+        this.dependencyClass = dependencyClass;
+        int stripeCount = Integer.highestOneBit(Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), maxSize)) * 2 - 1);
+        this.stripeMask = stripeCount - 1;
+        this.stripeSize = Math.max(1, (maxSize + stripeCount - 1) / stripeCount);
+        this.maxSize = stripeSize * stripeCount;
+        @SuppressWarnings("unchecked")
+        AtomicReferenceArray<Object>[] stripes = (AtomicReferenceArray<Object>[]) new AtomicReferenceArray<?>[stripeCount];
+        this.stripes = stripes;
+        this.states = new AtomicIntegerArray[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new AtomicReferenceArray<>(stripeSize);
+            states[i] = new AtomicIntegerArray(stripeSize);
+        }
+        this.resetMethod = findResetMethod(dependencyClass);
+        this.idleCount = new LongAdder();
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.returns = new LongAdder();
+        this.discards = new LongAdder();
+    }
+
+    public Object borrow(Supplier<Object> dependencyCreator){
+        int home = stripeIndex();
+        for (int s = 0; s < stripes.length; s++) {
+            int stripe = (home + s) & stripeMask;
+            AtomicIntegerArray stripeStates = states[stripe];
+            for (int i = 0; i < stripeSize; i++) {
+                if(stripeStates.get(i) == IDLE && stripeStates.compareAndSet(i, IDLE, BORROWED)){
+                    idleCount.decrement();
+                    hits.increment();
+                    return stripes[stripe].get(i);
+                }
+            }
+        }
+        misses.increment();
+        Object instance = dependencyCreator.get();
+        if(instance != null){
+            track(home, instance);
+        }
+        return instance;
+    }
+
+    public boolean isBorrowed(Object instance){
+        return instance != null && findSlot(instance, BORROWED) >= 0;
+    }
+
+    public boolean release(Object instance){
+        int slot = (instance == null) ? -1 : findSlot(instance, BORROWED);
+        if(slot < 0){
+            return false;
+        }
+        int stripe = slot / stripeSize;
+        int index = slot % stripeSize;
+        if(!states[stripe].compareAndSet(index, BORROWED, BUSY)){
+            return false;
+        }
+        if(!reset(instance)){
+            stripes[stripe].set(index, null);
+            states[stripe].set(index, EMPTY);
+            discards.increment();
+            return false;
+        }
+        idleCount.increment();
+        returns.increment();
+        states[stripe].set(index, IDLE);
+        return true;
+    }
+
+    public void clear(){
+        drain();
+    }
+
+    public List<Object> drain(){
+        List<Object> drained = new ArrayList<>();
+        for (int stripe = 0; stripe < stripes.length; stripe++) {
+            AtomicIntegerArray stripeStates = states[stripe];
+            for (int i = 0; i < stripeSize; i++) {
+                int state = stripeStates.get(i);
+                if((state == IDLE || state == BORROWED) && stripeStates.compareAndSet(i, state, BUSY)){
+                    Object value = stripes[stripe].getAndSet(i, null);
+                    stripeStates.set(i, EMPTY);
+                    if(state == IDLE){
+                        idleCount.decrement();
+                        drained.add(value);
+                    }
+                }
+            }
+        }
+        return drained;
+    }
+
+    @Override
+    public Class<?> getDependencyClass() {
+        return dependencyClass;
+    }
+
+    @Override
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    @Override
+    public long getIdleCount() {
+        return idleCount.sum();
+    }
+
+    @Override
+    public long getHits() {
+        return hits.sum();
+    }
+
+    @Override
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    @Override
+    public long getReturns() {
+        return returns.sum();
+    }
+
+    @Override
+    public long getDiscards() {
+        return discards.sum();
+    }
+
+    private void track(int home, Object instance){
+        for (int s = 0; s < stripes.length; s++) {
+            int stripe = (home + s) & stripeMask;
+            AtomicIntegerArray stripeStates = states[stripe];
+            for (int i = 0; i < stripeSize; i++) {
+                if(stripeStates.get(i) == EMPTY && stripeStates.compareAndSet(i, EMPTY, BUSY)){
+                    stripes[stripe].set(i, instance);
+                    stripeStates.set(i, BORROWED);
+                    return;
+                }
+            }
+        }
+    }
+
+    private int findSlot(Object instance, int state){
+        int home = stripeIndex();
+        for (int s = 0; s < stripes.length; s++) {
+            int stripe = (home + s) & stripeMask;
+            AtomicReferenceArray<Object> stripeInstances = stripes[stripe];
+            for (int i = 0; i < stripeSize; i++) {
+                if(stripeInstances.get(i) == instance && states[stripe].get(i) == state){
+                    return stripe * stripeSize + i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private int stripeIndex(){
+        long id = Thread.currentThread().getId();
+        return (int) (id ^ (id >>> 16)) & stripeMask;
+    }
+
+    private boolean reset(Object instance){
+        if(resetMethod == null){
+            return true;
+        }
+        try {
+            resetMethod.invokeExact(instance);
+            return true;
+        } catch (Throwable e) {
+            return false;
+        }
+    }
+
+    private static MethodHandle findResetMethod(Class<?> dependencyClass){
+        for (Class<?> current = dependencyClass; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Method method : current.getDeclaredMethods()) {
+                if(method.isAnnotationPresent(PoolReset.class) && method.getParameterCount() == 0){
+                    try {
+                        method.setAccessible(true);
+                        return MethodHandles.lookup().unreflect(method).asType(RESET_TYPE);
+                    } catch (IllegalAccessException | RuntimeException e) {
+                        return null;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return "DependencyPool [dependencyClass=" + dependencyClass + ", maxSize=" + maxSize + ", idle=" + getIdleCount()
+                + ", hits=" + getHits() + ", misses=" + getMisses() + ", returns=" + getReturns() + ", discards=" + getDiscards() + "]";
+    }
+}
@@ -0,0 +1,69 @@
+package dtm.dmanager.manager;
+
+import java.util.function.Supplier;
+
+import dtm.dmanager.core.Provider;
+
+public class DependencyProvider<T> implements Provider<T>{
+
+    private final DependencyManagerApplication dependencyManager;
+    private final Class<T> dependencyClass;
+    private final String qualifier;
+    private volatile Binding binding;
+
+    public DependencyProvider(DependencyManagerApplication dependencyManager, Class<T> dependencyClass, String qualifier){
+        this.dependencyManager = dependencyManager;
+        this.dependencyClass = dependencyClass;
+        this.qualifier = (qualifier == null || qualifier.isEmpty()) ? "default" : qualifier;
+    }
+
+    @Override
+    public T get() {
+        DependencyManagerStorage storage = getStorage();
+        if(storage == null){
+            return null;
+        }
+        Supplier<Object> activationFunction = storage.getActivationFunction();
+        return (activationFunction == null) ? null : dependencyClass.cast(activationFunction.get());
+    }
+
+    @Override
+    public boolean isAvailable() {
+        DependencyManagerStorage storage = getStorage();
+        return storage != null && storage.getActivationFunction() != null;
+    }
+
+    @Override
+    public Class<T> getDependencyClass() {
+        return dependencyClass;
+    }
+
+    DependencyManagerStorage getStorage(){
+        long version = dependencyManager.getResolutionVersion();
+        if(version < 0){
+            return dependencyManager.findDependencyStorage(dependencyClass, qualifier);
+        }
+
+        Binding current = binding;
+        if(current == null || current.version != version){
+            current = new Binding(version, dependencyManager.findDependencyStorage(dependencyClass, qualifier));
+            binding = current;
+        }
+        return current.storage;
+    }
+
+    private static final class Binding {
+        private final long version;
+        private final DependencyManagerStorage storage;
+
+        private Binding(long version, DependencyManagerStorage storage){
+            this.version = version;
+            this.storage = storage;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "DependencyProvider [dependencyClass=" + dependencyClass + ", qualifier=" + qualifier + "]";
+    }
+}
@@ -0,0 +1,124 @@
+package dtm.dmanager.manager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
+import dtm.dmanager.core.ScopeContext;
+import dtm.dmanager.exceptions.ScopeNotActiveException;
+
+public class DependencyScopeContext implements ScopeContext{
+
+    private final ScopeRegistry scopeRegistry;
+    private volatile AtomicReferenceArray<Object> instances;
+    private final List<Object> createdInstances;
+
+    public DependencyScopeContext(ScopeRegistry scopeRegistry, AtomicReferenceArray<Object> instances){
+        this.scopeRegistry = scopeRegistry;
+        this.instances = instances;
+        this.createdInstances = new ArrayList<>();
+    }
+
+    public Object get(int slot, Supplier<Object> dependencyCreator){
+        AtomicReferenceArray<Object> current = instances;
+        if(current != null && slot < current.length()){
+            Object value = current.get(slot);
+            if(value != null && instances == current){
+                return value;
+            }
+        }
+
+        synchronized (this) {
+            current = instances;
+            if(current == null){
+                throw new ScopeNotActiveException("Scope context is closed");
+            }
+            if(slot >= current.length()){
+                current = grow(current, slot + 1);
+            }
+            Object value = current.get(slot);
+            if(value == null){
+                value = dependencyCreator.get();
+                current = instances;
+                if(current == null){
+                    throw new ScopeNotActiveException("Scope context is closed");
+                }
+                current.set(slot, value);
+                if(value != null){
+                    createdInstances.add(value);
+                }
+            }
+            return value;
+        }
+    }
+
+    @Override
+    public void run(Runnable action) {
+        DependencyScopeContext previous = scopeRegistry.bind(this);
+        try {
+            action.run();
+        } finally {
+            scopeRegistry.restore(previous);
+        }
+    }
+
+    @Override
+    public <T> T call(Callable<T> action) throws Exception {
+        DependencyScopeContext previous = scopeRegistry.bind(this);
+        try {
+            return action.call();
+        } finally {
+            scopeRegistry.restore(previous);
+        }
+    }
+
+    @Override
+    public Runnable wrap(Runnable action) {
+        return () -> run(action);
+    }
+
+    @Override
+    public <T> Callable<T> wrap(Callable<T> action) {
+        return () -> call(action);
+    }
+
+    @Override
+    public boolean isClosed() {
+        return instances == null;
+    }
+
+    @Override
+    public void close() {
+        AtomicReferenceArray<Object> released;
+        List<Object> destroyed;
+        synchronized (this) {
+            released = instances;
+            instances = null;
+            destroyed = new ArrayList<>(createdInstances);
+            createdInstances.clear();
+        }
+        if(released == null){
+            return;
+        }
+        scopeRegistry.release(released);
+        for (int i = destroyed.size() - 1; i >= 0; i--) {
+            Object instance = destroyed.get(i);
+            try {
+                LifecycleCallbacks.of(instance.getClass()).destroy(instance);
+            } catch (Exception e) {
+                scopeRegistry.destroyFailed(instance.getClass(), e);
+            }
+        }
+    }
+
+    private AtomicReferenceArray<Object> grow(AtomicReferenceArray<Object> current, int minimumLength){
+        AtomicReferenceArray<Object> grown = new AtomicReferenceArray<>(Math.max(minimumLength, current.length() * 2));
+        for (int i = 0; i < current.length(); i++) {
+            grown.set(i, current.get(i));
+        }
+        instances = grown;
+        return grown;
+    }
+}
@@ -0,0 +1,29 @@
+package dtm.dmanager.manager;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+
+import dtm.dmanager.core.FactoryMethodReport;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class FactoryMethodReportStorage implements FactoryMethodReport{
+    private Class<?> setupClass;
+    private Method factoryMethod;
+    private String qualifier;
+    private Class<?> beanClass;
+    private long startNanos;
+    private Duration duration;
+    private String threadName;
+    private boolean created;
+    private Throwable failure;
+
+    @Override
+    public String toString() {
+        return "FactoryMethodReportStorage [factoryMethod=" + factoryMethod.getDeclaringClass().getName() + "." + factoryMethod.getName()
+                + ", qualifier=" + qualifier + ", beanClass=" + beanClass + ", duration=" + duration + ", created=" + created
+                + ", failure=" + failure + "]";
+    }
+}
@@ -0,0 +1,74 @@
+package dtm.dmanager.manager;
+
+import java.lang.reflect.Field;
+import java.util.function.Supplier;
+
+import dtm.dmanager.core.DependencyManager;
+import dtm.dmanager.enums.InjectionKind;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class InjectionPoint {
+    private final Class<?> type;
+    private final String qualifier;
+    private final Field field;
+    private final DependencyManagerStorage target;
+    private final InjectionKind kind;
+    private final Object handle;
+
+    @Getter(AccessLevel.NONE)
+    private volatile Binding binding;
+
+    public Object resolve(DependencyManager dependencyManager){
+        if(kind == InjectionKind.MULTIPLE){
+            return ((DependencyCollectionResolver) handle).resolve();
+        }
+        DependencyManagerStorage storage = getStorage(dependencyManager);
+        if(kind == InjectionKind.PROVIDER){
+            return handle;
+        }
+        if(kind == InjectionKind.LAZY){
+            return ((LazyDependencyHandler.ProxyFactory) handle).get();
+        }
+        if(storage == null){
+            return (target == null) ? dependencyManager.getDependency(type, qualifier).getDependency() : null;
+        }
+        Supplier<Object> activationFunction = storage.getActivationFunction();
+        return (activationFunction == null) ? null : activationFunction.get();
+    }
+
+    public DependencyManagerStorage getTarget(){
+        Binding current = binding;
+        return (current == null) ? target : current.storage;
+    }
+
+    private DependencyManagerStorage getStorage(DependencyManager dependencyManager){
+        if(!(dependencyManager instanceof DependencyManagerApplication application)){
+            return target;
+        }
+        long version = application.getResolutionVersion();
+        if(version < 0){
+            return target;
+        }
+
+        Binding current = binding;
+        if(current == null || current.version != version){
+            current = new Binding(version, application.findDependencyStorage(type, qualifier));
+            binding = current;
+        }
+        return current.storage;
+    }
+
+    private static final class Binding {
+        private final long version;
+        private final DependencyManagerStorage storage;
+
+        private Binding(long version, DependencyManagerStorage storage){
+            this.version = version;
+            this.storage = storage;
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package dtm.dmanager.manager;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import dtm.dmanager.core.BeanCreationEvent;
+import dtm.dmanager.core.DependencyManagerListener;
+import dtm.dmanager.core.FactoryMethodReport;
+import dtm.dmanager.core.StartupPhaseEvent;
+
+public class JsonStartupReportListener implements DependencyManagerListener{
+
+    private final Path reportFile;
+    private final long originNanos;
+    private final Queue<StartupPhaseEvent> phaseEvents;
+    private final Queue<BeanCreationEvent> beanEvents;
+    private final Queue<FactoryMethodReport> factoryReports;
+    private final Queue<String> listenerFailures;
+    private volatile Duration startupTime;
+
+    public JsonStartupReportListener(){
+        this(null);
+    }
+
+    public JsonStartupReportListener(Path reportFile){
+        this.reportFile = reportFile;
+        this.originNanos = System.nanoTime();
+        this.phaseEvents = new ConcurrentLinkedQueue<>();
+        this.beanEvents = new ConcurrentLinkedQueue<>();
+        this.factoryReports = new ConcurrentLinkedQueue<>();
+        this.listenerFailures = new ConcurrentLinkedQueue<>();
+    }
+
+    @Override
+    public void onPhase(StartupPhaseEvent event) {
+        phaseEvents.add(event);
+    }
+
+    @Override
+    public void onBeanCreated(BeanCreationEvent event) {
+        beanEvents.add(event);
+    }
+
+    @Override
+    public void onFactoryMethod(FactoryMethodReport report) {
+        factoryReports.add(report);
+    }
+
+    @Override
+    public void onListenerFailure(DependencyManagerListener listener, Throwable failure) {
+        listenerFailures.add(listener.getClass().getName() + ": " + failure);
+    }
+
+    @Override
+    public void onStartupCompleted(Duration startupTime) {
+        this.startupTime = startupTime;
+        if(reportFile != null){
+            write(reportFile);
+        }
+    }
+
+    public void write(Path path){
+        try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            write(writer);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Startup report can not be written: " + path, e);
+        }
+    }
+
+    public void write(Writer writer) throws IOException{
+        StringBuilder json = new StringBuilder();
+        json.append("{\n  \"startupTimeMillis\": ").append((startupTime == null) ? -1 : toMillis(startupTime.toNanos()));
+        json.append(",\n  \"phases\": [");
+        boolean first = true;
+        for (StartupPhaseEvent event : phaseEvents) {
+            json.append(first ? "\n    " : ",\n    ");
+            json.append("{\"phase\": ").append(quote(event.getPhase().name()))
+                .append(", \"startMillis\": ").append(toMillis(event.getStartNanos() - originNanos))
+                .append(", \"durationMillis\": ").append(toMillis(event.getDuration().toNanos()))
+                .append(", \"allocatedBytes\": ").append(event.getAllocatedBytes())
+                .append(", \"thread\": ").append(quote(event.getThreadName()))
+                .append("}");
+            first = false;
+        }
+        json.append(first ? "]" : "\n  ]");
+
+        json.append(",\n  \"beans\": [");
+        first = true;
+        for (BeanCreationEvent event : beanEvents) {
+            json.append(first ? "\n    " : ",\n    ");
+            json.append("{\"class\": ").append(quote(event.getDependencyClass().getName()))
+                .append(", \"qualifier\": ").append(quote(event.getQualifier()))
+                .append(", \"strategy\": ").append(quote(String.valueOf(event.getCreatorStrategy())))
+                .append(", \"startMillis\": ").append(toMillis(event.getStartNanos() - originNanos))
+                .append(", \"durationMillis\": ").append(toMillis(event.getDuration().toNanos()))
+                .append(", \"allocatedBytes\": ").append(event.getAllocatedBytes())
+                .append(", \"depth\": ").append(event.getDepth())
+                .append(", \"thread\": ").append(quote(event.getThreadName()))
+                .append(", \"created\": ").append(event.isCreated())
+                .append("}");
+            first = false;
+        }
+        json.append(first ? "]" : "\n  ]");
+
+        json.append(",\n  \"factories\": [");
+        first = true;
+        for (FactoryMethodReport report : factoryReports) {
+            json.append(first ? "\n    " : ",\n    ");
+            json.append("{\"setup\": ").append(quote(report.getSetupClass().getName()))
+                .append(", \"method\": ").append(quote(report.getFactoryMethod().getName()))
+                .append(", \"qualifier\": ").append(quote(report.getQualifier()))
+                .append(", \"beanClass\": ").append(quote(report.getBeanClass().getName()))
+                .append(", \"startMillis\": ").append(toMillis(report.getStartNanos() - originNanos))
+                .append(", \"durationMillis\": ").append(toMillis(report.getDuration().toNanos()))
+                .append(", \"thread\": ").append(quote(report.getThreadName()))
+                .append(", \"created\": ").append(report.isCreated())
+                .append(", \"failure\": ").append(quote((report.getFailure() == null) ? null : String.valueOf(report.getFailure())))
+                .append("}");
+            first = false;
+        }
+        json.append(first ? "]" : "\n  ]");
+
+        json.append(",\n  \"listenerFailures\": [");
+        first = true;
+        for (String failure : listenerFailures) {
+            json.append(first ? "\n    " : ",\n    ").append(quote(failure));
+            first = false;
+        }
+        json.append(first ? "]" : "\n  ]");
+        json.append("\n}\n");
+        writer.write(json.toString());
+    }
+
+    private String toMillis(long nanos){
+        return String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0);
+    }
+
+    private String quote(String value){
+        if(value == null){
+            return "null";
+        }
+        StringBuilder quoted = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            switch (c) {
+                case '"':
+                    quoted.append("\\\"");
+                    break;
+                case '\\':
+                    quoted.append("\\\\");
+                    break;
+                case '\n':
+                    quoted.append("\\n");
+                    break;
+                case '\r':
+                    quoted.append("\\r");
+                    break;
+                case '\t':
+                    quoted.append("\\t");
+                    break;
+                default:
+                    if(c < 0x20){
+                        quoted.append(String.format("\\u%04x", (int) c));
+                    }else{
+                        quoted.append(c);
+                    }
+            }
+        }
+        return quoted.append('"').toString();
+    }
+}
@@ -0,0 +1,143 @@
+package dtm.dmanager.manager;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+import dtm.dmanager.core.Provider;
+import dtm.dmanager.enums.DependencyCreatorType;
+
+public class LazyDependencyHandler implements InvocationHandler{
+
+    private final Class<?> dependencyClass;
+    private final Provider<?> provider;
+    private final boolean memoize;
+    private volatile Memo memo;
+
+    public LazyDependencyHandler(Class<?> dependencyClass, Provider<?> provider){
+        this(dependencyClass, provider, true);
+    }
+
+    public LazyDependencyHandler(Class<?> dependencyClass, Provider<?> provider, boolean memoize){
+        this.dependencyClass = dependencyClass;
+        this.provider = provider;
+        this.memoize = memoize;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        if(method.getDeclaringClass() == Object.class){
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0] || (args[0] != null && args[0].equals(getTarget()));
+                case "hashCode":
+                    return getTarget().hashCode();
+                default:
+                    break;
+            }
+        }
+        try {
+            return method.invoke(getTarget(), args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    public boolean isInitialized(){
+        return !memoize || memo != null;
+    }
+
+    private Object getTarget(){
+        Object target = (memoize) ? getMemoizedTarget() : provider.get();
+        if(target == null){
+            throw new IllegalStateException("Lazy dependency can not be created: " + dependencyClass.getName());
+        }
+        return target;
+    }
+
+    private Object getMemoizedTarget(){
+        DependencyManagerStorage storage = getBoundStorage(provider);
+        Memo current = memo;
+        if(current != null && current.storage == storage){
+            return current.target;
+        }
+        synchronized (this) {
+            current = memo;
+            if(current != null && current.storage == storage){
+                return current.target;
+            }
+            Object target = provider.get();
+            if(target != null){
+                memo = new Memo(storage, target);
+            }
+            return target;
+        }
+    }
+
+    private static DependencyManagerStorage getBoundStorage(Provider<?> provider){
+        return (provider instanceof DependencyProvider<?> dependencyProvider) ? dependencyProvider.getStorage() : null;
+    }
+
+    public static boolean isLazyProxy(Object value){
+        return value != null && Proxy.isProxyClass(value.getClass()) && Proxy.getInvocationHandler(value) instanceof LazyDependencyHandler;
+    }
+
+    public static Object newProxy(Class<?> dependencyClass, Provider<?> provider){
+        return newProxy(dependencyClass, provider, true);
+    }
+
+    public static Object newProxy(Class<?> dependencyClass, Provider<?> provider, boolean memoize){
+        ClassLoader classLoader = (dependencyClass.getClassLoader() == null) ? LazyDependencyHandler.class.getClassLoader() : dependencyClass.getClassLoader();
+        return Proxy.newProxyInstance(classLoader, new Class<?>[]{ dependencyClass }, new LazyDependencyHandler(dependencyClass, provider, memoize));
+    }
+
+    public static ProxyFactory newProxyFactory(Class<?> dependencyClass, Provider<?> provider, DependencyCreatorType strategy){
+        return new ProxyFactory(dependencyClass, provider, strategy);
+    }
+
+    private static final class Memo {
+        private final DependencyManagerStorage storage;
+        private final Object target;
+
+        private Memo(DependencyManagerStorage storage, Object target){
+            this.storage = storage;
+            this.target = target;
+        }
+    }
+
+    public static final class ProxyFactory {
+        private final Class<?> dependencyClass;
+        private final Provider<?> provider;
+        private final DependencyCreatorType strategy;
+        private final Object singletonProxy;
+        private final Object scopedProxy;
+
+        private ProxyFactory(Class<?> dependencyClass, Provider<?> provider, DependencyCreatorType strategy){
+            this.dependencyClass = dependencyClass;
+            this.provider = provider;
+            this.strategy = strategy;
+            this.singletonProxy = newProxy(dependencyClass, provider, true);
+            this.scopedProxy = newProxy(dependencyClass, provider, false);
+        }
+
+        public Object get(){
+            DependencyCreatorType currentStrategy = getStrategy();
+            if(currentStrategy == DependencyCreatorType.SINGLETON){
+                return singletonProxy;
+            }
+            if(ScopeRegistry.isScoped(currentStrategy)){
+                return scopedProxy;
+            }
+            return newProxy(dependencyClass, provider, true);
+        }
+
+        private DependencyCreatorType getStrategy(){
+            if(!(provider instanceof DependencyProvider<?>)){
+                return strategy;
+            }
+            DependencyManagerStorage storage = getBoundStorage(provider);
+            return (storage == null) ? null : storage.getCreatorStrategy();
+        }
+    }
+}
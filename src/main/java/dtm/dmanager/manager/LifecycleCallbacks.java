@@ -0,0 +1,152 @@
+package dtm.dmanager.manager;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import dtm.dmanager.core.annotations.PostConstruct;
+import dtm.dmanager.core.annotations.PreDestroy;
+import dtm.dmanager.exceptions.DependencyManagerInitializeException;
+
+public final class LifecycleCallbacks {
+
+    private static final MethodType CALLBACK_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final ClassValue<LifecycleCallbacks> CALLBACKS = new ClassValue<>() {
+        @Override
+        protected LifecycleCallbacks computeValue(Class<?> type) {
+            return new LifecycleCallbacks(type);
+        }
+    };
+
+    private final List<Method> postConstructMethods;
+    private final List<MethodHandle> postConstructHandles;
+    private final List<MethodHandle> preDestroyHandles;
+    private final boolean closeable;
+
+    private LifecycleCallbacks(Class<?> type){
+        List<Class<?>> hierarchy = new ArrayList<>();
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            hierarchy.add(current);
+        }
+
+        List<Method> preDestroyMethods = findMethods(hierarchy, PreDestroy.class);
+        Collections.reverse(hierarchy);
+        this.postConstructMethods = Collections.unmodifiableList(findMethods(hierarchy, PostConstruct.class));
+        this.postConstructHandles = unreflect(postConstructMethods);
+        this.preDestroyHandles = unreflect(preDestroyMethods);
+        boolean closeByPreDestroy = false;
+        for (Method method : preDestroyMethods) {
+            closeByPreDestroy |= method.getName().equals("close");
+        }
+        this.closeable = AutoCloseable.class.isAssignableFrom(type) && !closeByPreDestroy;
+    }
+
+    public static LifecycleCallbacks of(Class<?> type){
+        return CALLBACKS.get(type);
+    }
+
+    public boolean hasPostConstruct(){
+        return !postConstructHandles.isEmpty();
+    }
+
+    public boolean hasDestroy(){
+        return closeable || !preDestroyHandles.isEmpty();
+    }
+
+    public List<Method> getPostConstructMethods(){
+        return postConstructMethods;
+    }
+
+    public CompletableFuture<?> postConstruct(Object instance) throws Throwable{
+        List<CompletableFuture<?>> pending = null;
+        for (MethodHandle handle : postConstructHandles) {
+            Object result = (Object) handle.invokeExact(instance);
+            if(result instanceof CompletionStage<?> stage){
+                if(pending == null){
+                    pending = new ArrayList<>();
+                }
+                pending.add(stage.toCompletableFuture());
+            }
+        }
+        if(pending == null){
+            return null;
+        }
+        return (pending.size() == 1) ? pending.get(0) : CompletableFuture.allOf(pending.toArray(new CompletableFuture<?>[0]));
+    }
+
+    public void destroy(Object instance) throws Exception{
+        Exception failure = null;
+        for (MethodHandle handle : preDestroyHandles) {
+            try {
+                Object ignored = (Object) handle.invokeExact(instance);
+            } catch (Throwable e) {
+                failure = addFailure(failure, e);
+            }
+        }
+        if(closeable){
+            try {
+                ((AutoCloseable) instance).close();
+            } catch (Exception e) {
+                failure = addFailure(failure, e);
+            }
+        }
+        if(failure != null){
+            throw failure;
+        }
+    }
+
+    private static Exception addFailure(Exception failure, Throwable e){
+        Exception current = (e instanceof Exception exception) ? exception : new Exception(e);
+        if(failure == null){
+            return current;
+        }
+        failure.addSuppressed(current);
+        return failure;
+    }
+
+    private static List<Method> findMethods(List<Class<?>> hierarchy, Class<? extends java.lang.annotation.Annotation> annotation){
+        List<Method> methods = new ArrayList<>();
+        Set<String> overridden = new HashSet<>();
+        for (Class<?> type : hierarchy) {
+            for (Method method : type.getDeclaredMethods()) {
+                if(!method.isAnnotationPresent(annotation) || method.getParameterCount() != 0 || Modifier.isStatic(method.getModifiers())){
+                    continue;
+                }
+                if(Modifier.isPrivate(method.getModifiers()) || overridden.add(getSignature(method))){
+                    methods.add(method);
+                }
+            }
+        }
+        return methods;
+    }
+
+    private static String getSignature(Method method){
+        return method.getName() + Arrays.toString(method.getParameterTypes());
+    }
+
+    private static List<MethodHandle> unreflect(List<Method> methods){
+        List<MethodHandle> handles = new ArrayList<>(methods.size());
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        for (Method method : methods) {
+            try {
+                method.setAccessible(true);
+                handles.add(lookup.unreflect(method).asType(CALLBACK_TYPE));
+            } catch (IllegalAccessException | RuntimeException e) {
+                throw new DependencyManagerInitializeException("Lifecycle callback can not be accessed: "
+                    + method.getDeclaringClass().getName() + "." + method.getName() + "()", e);
+            }
+        }
+        return Collections.unmodifiableList(handles);
+    }
+}
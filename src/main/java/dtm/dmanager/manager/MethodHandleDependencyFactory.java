@@ -0,0 +1,79 @@
+package dtm.dmanager.manager;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+import dtm.dmanager.core.DependencyManager;
+import dtm.dmanager.exceptions.DependencyManagerInitializeException;
+
+public class MethodHandleDependencyFactory {
+
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+    private static final MethodType SPREAD_CONSTRUCTOR_TYPE = MethodType.methodType(Object.class, Object[].class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final Class<?> dependencyClass;
+    private final MethodHandle constructor;
+    private final InjectionPoint[] parameters;
+    private final MethodHandle[] fieldSetters;
+    private final InjectionPoint[] fields;
+
+    private MethodHandleDependencyFactory(Class<?> dependencyClass, MethodHandle constructor, InjectionPoint[] parameters, MethodHandle[] fieldSetters, InjectionPoint[] fields){
+        this.dependencyClass = dependencyClass;
+        this.constructor = constructor;
+        this.parameters = parameters;
+        this.fieldSetters = fieldSetters;
+        this.fields = fields;
+    }
+
+    public Class<?> getDependencyClass() {
+        return dependencyClass;
+    }
+
+    public Object create(DependencyManager dependencyManager){
+        try {
+            Object instance;
+            if(parameters.length == 0){
+                instance = (Object) constructor.invokeExact();
+            }else{
+                Object[] args = new Object[parameters.length];
+                for (int i = 0; i < parameters.length; i++) {
+                    args[i] = parameters[i].resolve(dependencyManager);
+                }
+                instance = (Object) constructor.invokeExact(args);
+            }
+            for (int i = 0; i < fieldSetters.length; i++) {
+                fieldSetters[i].invokeExact(instance, fields[i].resolve(dependencyManager));
+            }
+            return instance;
+        } catch (DependencyManagerInitializeException e) {
+            throw e;
+        } catch (Throwable e) {
+            return null;
+        }
+    }
+
+    public static MethodHandleDependencyFactory of(DependencyInjectionPlan injectionPlan){
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            InjectionPoint[] parameters = injectionPlan.getParameters();
+            MethodHandle constructorHandle = lookup.unreflectConstructor(injectionPlan.getConstructor());
+            if(parameters.length == 0){
+                constructorHandle = constructorHandle.asType(CONSTRUCTOR_TYPE);
+            }else{
+                constructorHandle = constructorHandle.asSpreader(Object[].class, parameters.length).asType(SPREAD_CONSTRUCTOR_TYPE);
+            }
+
+            InjectionPoint[] fields = injectionPlan.getFields();
+            MethodHandle[] fieldSetters = new MethodHandle[fields.length];
+            for (int i = 0; i < fields.length; i++) {
+                fieldSetters[i] = lookup.unreflectSetter(fields[i].getField()).asType(SETTER_TYPE);
+            }
+
+            return new MethodHandleDependencyFactory(injectionPlan.getDependencyClass(), constructorHandle, parameters, fieldSetters, fields);
+        } catch (IllegalAccessException | RuntimeException e) {
+            return null;
+        }
+    }
+}
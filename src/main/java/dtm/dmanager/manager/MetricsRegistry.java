@@ -0,0 +1,178 @@
+package dtm.dmanager.manager;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import dtm.dmanager.core.DependencyMetrics;
+
+public class MetricsRegistry implements DependencyManagerMetricsMXBean{
+
+    private static final int MBEAN_TOP_SIZE = 10;
+
+    private final Map<Class<?>, DependencyMetricsRecorder> recorders;
+    private final BiConsumer<String, Throwable> mBeanFailureHandler;
+    private volatile boolean enabled;
+    private ObjectName objectName;
+
+    public MetricsRegistry(boolean enabled){
+        this(enabled, (objectName, failure) -> {});
+    }
+
+    public MetricsRegistry(boolean enabled, BiConsumer<String, Throwable> mBeanFailureHandler){
+        this.recorders = new ConcurrentHashMap<>();
+        this.mBeanFailureHandler = mBeanFailureHandler;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public void recordLookup(Class<?> dependencyClass, boolean hit){
+        getRecorder(dependencyClass).recordLookup(hit);
+    }
+
+    public Object measureCreation(DependencyManagerStorage managerStorage, Supplier<Object> dependencyCreator){
+        if(!enabled){
+            return dependencyCreator.get();
+        }
+
+        long start = System.nanoTime();
+        Object instance = null;
+        try {
+            instance = dependencyCreator.get();
+            return instance;
+        } finally {
+            getRecorder(managerStorage.getDependencyClass()).recordCreation(System.nanoTime() - start, instance != null);
+        }
+    }
+
+    public DependencyMetrics getMetrics(Class<?> dependencyClass){
+        DependencyMetricsRecorder recorder = recorders.get(dependencyClass);
+        return (recorder == null) ? null : recorder.snapshot();
+    }
+
+    public Map<Class<?>, DependencyMetrics> snapshot(){
+        Map<Class<?>, DependencyMetrics> snapshot = new LinkedHashMap<>();
+        for (Map.Entry<Class<?>, DependencyMetricsRecorder> entry : recorders.entrySet()) {
+            snapshot.put(entry.getKey(), entry.getValue().snapshot());
+        }
+        return Collections.unmodifiableMap(snapshot);
+    }
+
+    public List<DependencyMetrics> getMostExpensive(int limit){
+        List<DependencyMetricsRecorder> ranked = new ArrayList<>(recorders.values());
+        ranked.sort(Comparator.comparingLong(DependencyMetricsRecorder::getTotalCreationNanos).reversed());
+        List<DependencyMetrics> mostExpensive = new ArrayList<>();
+        for (DependencyMetricsRecorder recorder : ranked.subList(0, Math.min(Math.max(0, limit), ranked.size()))) {
+            mostExpensive.add(recorder.snapshot());
+        }
+        return Collections.unmodifiableList(mostExpensive);
+    }
+
+    @Override
+    public void reset() {
+        for (DependencyMetricsRecorder recorder : recorders.values()) {
+            recorder.reset();
+        }
+    }
+
+    @Override
+    public int getTrackedTypes() {
+        return recorders.size();
+    }
+
+    @Override
+    public long getLookups() {
+        long lookups = 0;
+        for (DependencyMetricsRecorder recorder : recorders.values()) {
+            lookups += recorder.getLookups();
+        }
+        return lookups;
+    }
+
+    @Override
+    public long getMisses() {
+        long misses = 0;
+        for (DependencyMetricsRecorder recorder : recorders.values()) {
+            misses += recorder.getMisses();
+        }
+        return misses;
+    }
+
+    @Override
+    public long getCreations() {
+        long creations = 0;
+        for (DependencyMetricsRecorder recorder : recorders.values()) {
+            creations += recorder.getCreations();
+        }
+        return creations;
+    }
+
+    @Override
+    public long getCreationFailures() {
+        long creationFailures = 0;
+        for (DependencyMetricsRecorder recorder : recorders.values()) {
+            creationFailures += recorder.getCreationFailures();
+        }
+        return creationFailures;
+    }
+
+    @Override
+    public String[] getMostExpensive() {
+        return getMostExpensive(MBEAN_TOP_SIZE).stream().map(DependencyMetrics::toString).toArray(String[]::new);
+    }
+
+    public synchronized void registerMBean(){
+        if(objectName != null){
+            return;
+        }
+        String name = "dtm.dmanager:type=DependencyManagerMetrics,id=" + Integer.toHexString(System.identityHashCode(this));
+        try {
+            ObjectName mBeanName = new ObjectName(name);
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, mBeanName);
+            objectName = mBeanName;
+        } catch (JMException | RuntimeException e) {
+            mBeanFailureHandler.accept(name, e);
+        }
+    }
+
+    public synchronized void unregisterMBean(){
+        if(objectName == null){
+            return;
+        }
+        try {
+            MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            if(mBeanServer.isRegistered(objectName)){
+                mBeanServer.unregisterMBean(objectName);
+            }
+        } catch (JMException | RuntimeException e) {
+            mBeanFailureHandler.accept(objectName.toString(), e);
+        } finally {
+            objectName = null;
+        }
+    }
+
+    private DependencyMetricsRecorder getRecorder(Class<?> dependencyClass){
+        DependencyMetricsRecorder recorder = recorders.get(dependencyClass);
+        return (recorder != null) ? recorder : recorders.computeIfAbsent(dependencyClass, DependencyMetricsRecorder::new);
+    }
+}
@@ -0,0 +1,47 @@
+package dtm.dmanager.manager;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import dtm.dmanager.core.BeanReadiness;
+import dtm.dmanager.enums.ReadinessState;
+
+public class PendingInitialization {
+
+    private final String name;
+    private final Class<?> beanClass;
+    private final String qualifier;
+    private final long startNanos;
+    private final CompletableFuture<?> future;
+    private volatile long endNanos;
+
+    public PendingInitialization(String name, Class<?> beanClass, String qualifier, long startNanos, CompletableFuture<?> future){
+        this.name = name;
+        this.beanClass = beanClass;
+        this.qualifier = qualifier;
+        this.startNanos = startNanos;
+        this.future = future;
+        future.whenComplete((v, e) -> endNanos = System.nanoTime());
+    }
+
+    public CompletableFuture<?> getFuture() {
+        return future;
+    }
+
+    public BeanReadiness toReadiness(){
+        if(!future.isDone()){
+            return new BeanReadinessStorage(name, beanClass, qualifier, ReadinessState.PENDING, Duration.ofNanos(System.nanoTime() - startNanos), null);
+        }
+        long end = (endNanos == 0) ? System.nanoTime() : endNanos;
+        Throwable failure = null;
+        try {
+            future.join();
+        } catch (CompletionException e) {
+            failure = (e.getCause() == null) ? e : e.getCause();
+        } catch (RuntimeException e) {
+            failure = e;
+        }
+        return new BeanReadinessStorage(name, beanClass, qualifier, (failure == null) ? ReadinessState.READY : ReadinessState.FAILED, Duration.ofNanos(end - startNanos), failure);
+    }
+}
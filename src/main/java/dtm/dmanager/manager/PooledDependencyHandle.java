@@ -0,0 +1,33 @@
+package dtm.dmanager.manager;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import dtm.dmanager.core.PooledDependency;
+
+public class PooledDependencyHandle<T> implements PooledDependency<T>{
+
+    private final DependencyPool dependencyPool;
+    private final T dependency;
+    private final AtomicBoolean released;
+
+    public PooledDependencyHandle(DependencyPool dependencyPool, T dependency){
+        this.dependencyPool = dependencyPool;
+        this.dependency = dependency;
+        this.released = new AtomicBoolean();
+    }
+
+    @Override
+    public T get() {
+        if(released.get()){
+            throw new IllegalStateException("Pooled dependency already released: " + dependency.getClass().getName());
+        }
+        return dependency;
+    }
+
+    @Override
+    public void close() {
+        if(released.compareAndSet(false, true) && dependencyPool != null){
+            dependencyPool.release(dependency);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package dtm.dmanager.manager;
+
+import java.time.Duration;
+import java.util.List;
+
+import dtm.dmanager.core.BeanReadiness;
+import dtm.dmanager.core.ReadinessReport;
+import dtm.dmanager.enums.ReadinessState;
+import lombok.Getter;
+
+@Getter
+public class ReadinessReportStorage implements ReadinessReport{
+
+    private final Duration elapsed;
+    private final List<BeanReadiness> beans;
+    private final List<BeanReadiness> pendingBeans;
+    private final List<BeanReadiness> failedBeans;
+
+    public ReadinessReportStorage(Duration elapsed, List<BeanReadiness> beans){
+        this.elapsed = elapsed;
+        this.beans = beans;
+        this.pendingBeans = beans.stream().filter(b -> b.getState() == ReadinessState.PENDING).toList();
+        this.failedBeans = beans.stream().filter(b -> b.getState() == ReadinessState.FAILED || b.getState() == ReadinessState.SKIPPED).toList();
+    }
+
+    @Override
+    public boolean isReady() {
+        return pendingBeans.isEmpty() && failedBeans.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "ReadinessReportStorage [ready=" + isReady() + ", elapsed=" + elapsed + ", beans=" + beans.size()
+                + ", pendingBeans=" + pendingBeans + ", failedBeans=" + failedBeans + "]";
+    }
+}
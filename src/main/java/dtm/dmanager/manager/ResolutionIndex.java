@@ -0,0 +1,97 @@
+package dtm.dmanager.manager;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ResolutionIndex {
+
+    private static final ResolutionNode REMOVED = new ResolutionNode(Collections.emptyList());
+    private static final int MIN_COMPACTION_THRESHOLD = 32;
+
+    private final Map<Class<?>, ResolutionNode> nodes;
+    private final Map<Class<?>, ResolutionNode> overlay;
+    private final long version;
+
+    private ResolutionIndex(Map<Class<?>, ResolutionNode> nodes, Map<Class<?>, ResolutionNode> overlay, long version){
+        this.nodes = nodes;
+        this.overlay = overlay;
+        this.version = version;
+    }
+
+    public static ResolutionIndex freeze(Map<Class<?>, List<DependencyManagerStorage>> dependencyMap){
+        return freeze(dependencyMap, 0);
+    }
+
+    public static ResolutionIndex freeze(Map<Class<?>, List<DependencyManagerStorage>> dependencyMap, long version){
+        Map<Class<?>, ResolutionNode> nodes = new HashMap<>(Math.max(16, (int) (dependencyMap.size() / 0.75f) + 1));
+        for (Map.Entry<Class<?>, List<DependencyManagerStorage>> entry : dependencyMap.entrySet()) {
+            if(!entry.getValue().isEmpty()){
+                nodes.put(entry.getKey(), new ResolutionNode(entry.getValue()));
+            }
+        }
+        return new ResolutionIndex(nodes, Collections.emptyMap(), version);
+    }
+
+    public ResolutionIndex withNodes(Map<Class<?>, List<DependencyManagerStorage>> changedNodes){
+        Map<Class<?>, ResolutionNode> nextOverlay = new HashMap<>(overlay);
+        for (Map.Entry<Class<?>, List<DependencyManagerStorage>> entry : changedNodes.entrySet()) {
+            List<DependencyManagerStorage> node = entry.getValue();
+            nextOverlay.put(entry.getKey(), (node == null || node.isEmpty()) ? REMOVED : new ResolutionNode(node));
+        }
+
+        if(nextOverlay.size() <= Math.max(MIN_COMPACTION_THRESHOLD, nodes.size() >> 3)){
+            return new ResolutionIndex(nodes, nextOverlay, version + 1);
+        }
+
+        Map<Class<?>, ResolutionNode> compacted = new HashMap<>(nodes);
+        for (Map.Entry<Class<?>, ResolutionNode> entry : nextOverlay.entrySet()) {
+            if(entry.getValue() == REMOVED){
+                compacted.remove(entry.getKey());
+            }else{
+                compacted.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return new ResolutionIndex(compacted, Collections.emptyMap(), version + 1);
+    }
+
+    public DependencyManagerStorage find(Class<?> type, String qualifier){
+        ResolutionNode node = null;
+        if(!overlay.isEmpty()){
+            node = overlay.get(type);
+        }
+        if(node == null){
+            node = nodes.get(type);
+        }
+        return (node == null) ? null : node.find(qualifier);
+    }
+
+    public ResolutionNode getNode(Class<?> type){
+        ResolutionNode node = null;
+        if(!overlay.isEmpty()){
+            node = overlay.get(type);
+        }
+        if(node == null){
+            node = nodes.get(type);
+        }
+        return (node == REMOVED) ? null : node;
+    }
+
+    public long getVersion(){
+        return version;
+    }
+
+    public int size(){
+        int size = nodes.size();
+        for (Map.Entry<Class<?>, ResolutionNode> entry : overlay.entrySet()) {
+            boolean inBase = nodes.containsKey(entry.getKey());
+            if(entry.getValue() == REMOVED){
+                size -= (inBase) ? 1 : 0;
+            }else{
+                size += (inBase) ? 0 : 1;
+            }
+        }
+        return size;
+    }
+}
@@ -0,0 +1,67 @@
+package dtm.dmanager.manager;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+
+import dtm.dmanager.core.annotations.Injectable;
+
+public class ResolutionNode {
+
+    private static final Comparator<DependencyManagerStorage> ORDER = Comparator
+        .comparingInt(ResolutionNode::getOrder)
+        .thenComparing(DependencyManagerStorage::getQualifier)
+        .thenComparing(ResolutionNode::getClassName);
+
+    private final String[] qualifiers;
+    private final DependencyManagerStorage[] storages;
+    private final DependencyManagerStorage fallback;
+
+    public ResolutionNode(Collection<DependencyManagerStorage> node){
+        storages = node.toArray(new DependencyManagerStorage[0]);
+        Arrays.sort(storages, ORDER);
+        int size = storages.length;
+        qualifiers = new String[size];
+
+        DependencyManagerStorage defaultStorage = null;
+        for (int i = 0; i < size; i++) {
+            qualifiers[i] = storages[i].getQualifier();
+            if(defaultStorage == null && "default".equals(qualifiers[i])){
+                defaultStorage = storages[i];
+            }
+        }
+        fallback = (defaultStorage != null || size == 0) ? defaultStorage : storages[0];
+    }
+
+    public DependencyManagerStorage find(String qualifier){
+        for (int i = 0; i < qualifiers.length; i++) {
+            if(qualifiers[i].equals(qualifier)){
+                return storages[i];
+            }
+        }
+        return fallback;
+    }
+
+    public int size(){
+        return storages.length;
+    }
+
+    public String getQualifier(int position){
+        return qualifiers[position];
+    }
+
+    public DependencyManagerStorage getStorage(int position){
+        return storages[position];
+    }
+
+    private static int getOrder(DependencyManagerStorage storage){
+        Class<?> dependencyClass = storage.getDependencyClass();
+        Injectable injectable = (dependencyClass == null) ? null : dependencyClass.getAnnotation(Injectable.class);
+        return (injectable == null) ? 0 : injectable.order();
+    }
+
+    private static String getClassName(DependencyManagerStorage storage){
+        Class<?> dependencyClass = storage.getDependencyClass();
+        return (dependencyClass == null) ? "" : dependencyClass.getName();
+    }
+}
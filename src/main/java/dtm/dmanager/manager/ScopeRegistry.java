@@ -0,0 +1,154 @@
+package dtm.dmanager.manager;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+import dtm.dmanager.enums.DependencyCreatorType;
+import dtm.dmanager.exceptions.ScopeNotActiveException;
+
+public class ScopeRegistry {
+
+    private static final int MIN_SCOPE_SIZE = 8;
+    private static final int MAX_POOLED_SCOPES = 256;
+    private static final int MIN_THREAD_SCOPE_SWEEP = 64;
+
+    private final AtomicInteger slotCount;
+    private final Map<Class<?>, Integer> slots;
+    private final ThreadLocal<DependencyScopeContext> currentScope;
+    private final ThreadLocal<DependencyScopeContext> threadScope;
+    private final Map<DependencyScopeContext, Thread> threadScopes;
+    private final AtomicInteger threadScopeSweep;
+    private final Queue<AtomicReferenceArray<Object>> pooledInstances;
+    private final AtomicInteger pooledCount;
+    private final BiConsumer<Class<?>, Throwable> destroyFailureHandler;
+
+    public ScopeRegistry(){
+        this((beanClass, failure) -> {});
+    }
+
+    public ScopeRegistry(BiConsumer<Class<?>, Throwable> destroyFailureHandler){
+        this.destroyFailureHandler = destroyFailureHandler;
+        slotCount = new AtomicInteger();
+        slots = new ConcurrentHashMap<>();
+        currentScope = new ThreadLocal<>();
+        threadScope = new ThreadLocal<>();
+        threadScopes = new ConcurrentHashMap<>();
+        threadScopeSweep = new AtomicInteger(MIN_THREAD_SCOPE_SWEEP);
+        pooledInstances = new ConcurrentLinkedQueue<>();
+        pooledCount = new AtomicInteger();
+    }
+
+    public static boolean isScoped(DependencyCreatorType strategy){
+        return strategy == DependencyCreatorType.REQUEST || strategy == DependencyCreatorType.THREAD;
+    }
+
+    public int getSlot(Class<?> dependencyClass){
+        return slots.computeIfAbsent(dependencyClass, c -> slotCount.getAndIncrement());
+    }
+
+    public DependencyScopeContext open(){
+        AtomicReferenceArray<Object> instances = pooledInstances.poll();
+        if(instances == null){
+            instances = new AtomicReferenceArray<>(Math.max(MIN_SCOPE_SIZE, slotCount.get()));
+        }else{
+            pooledCount.decrementAndGet();
+        }
+        return new DependencyScopeContext(this, instances);
+    }
+
+    public DependencyScopeContext getCurrentScope(){
+        return currentScope.get();
+    }
+
+    public Object getScoped(DependencyManagerStorage managerStorage, Supplier<Object> dependencyCreator){
+        DependencyScopeContext scopeContext;
+        if(managerStorage.getCreatorStrategy() == DependencyCreatorType.THREAD){
+            scopeContext = threadScope.get();
+            if(scopeContext == null){
+                scopeContext = openThreadScope();
+            }
+        }else{
+            scopeContext = currentScope.get();
+            if(scopeContext == null){
+                throw new ScopeNotActiveException("No active scope for " + managerStorage.getDependencyClass().getName());
+            }
+        }
+        return scopeContext.get(managerStorage.getScopeSlot(), dependencyCreator);
+    }
+
+    public void closeThreadScope(){
+        DependencyScopeContext scopeContext = threadScope.get();
+        threadScope.remove();
+        if(scopeContext != null){
+            threadScopes.remove(scopeContext);
+            scopeContext.close();
+        }
+    }
+
+    public void close(){
+        for (DependencyScopeContext scopeContext : threadScopes.keySet()) {
+            if(threadScopes.remove(scopeContext) != null){
+                scopeContext.close();
+            }
+        }
+        threadScope.remove();
+    }
+
+    private DependencyScopeContext openThreadScope(){
+        DependencyScopeContext scopeContext = open();
+        threadScope.set(scopeContext);
+        threadScopes.put(scopeContext, Thread.currentThread());
+        int sweep = threadScopeSweep.get();
+        if(threadScopes.size() >= sweep && threadScopeSweep.compareAndSet(sweep, Integer.MAX_VALUE)){
+            closeFinishedThreadScopes();
+            threadScopeSweep.set(Math.max(MIN_THREAD_SCOPE_SWEEP, threadScopes.size() * 2));
+        }
+        return scopeContext;
+    }
+
+    private void closeFinishedThreadScopes(){
+        for (Map.Entry<DependencyScopeContext, Thread> entry : threadScopes.entrySet()) {
+            if(!entry.getValue().isAlive() && threadScopes.remove(entry.getKey(), entry.getValue())){
+                entry.getKey().close();
+            }
+        }
+    }
+
+    DependencyScopeContext bind(DependencyScopeContext scopeContext){
+        if(scopeContext.isClosed()){
+            throw new ScopeNotActiveException("Scope context is closed");
+        }
+        DependencyScopeContext previous = currentScope.get();
+        currentScope.set(scopeContext);
+        return previous;
+    }
+
+    void restore(DependencyScopeContext previous){
+        if(previous == null){
+            currentScope.remove();
+        }else{
+            currentScope.set(previous);
+        }
+    }
+
+    void destroyFailed(Class<?> beanClass, Throwable failure){
+        destroyFailureHandler.accept(beanClass, failure);
+    }
+
+    void release(AtomicReferenceArray<Object> instances){
+        for (int i = 0; i < instances.length(); i++) {
+            instances.set(i, null);
+        }
+        if(instances.length() >= slotCount.get() && pooledCount.incrementAndGet() <= MAX_POOLED_SCOPES){
+            pooledInstances.offer(instances);
+        }else if(instances.length() >= slotCount.get()){
+            pooledCount.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,442 @@
+package dtm.dmanager.manager;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import dtm.dmanager.core.BeanReadiness;
+import dtm.dmanager.core.DependencyManager;
+import dtm.dmanager.core.FactoryMethodReport;
+import dtm.dmanager.core.ReadinessReport;
+import dtm.dmanager.core.SetupReport;
+import dtm.dmanager.core.annotations.FactoryMethod;
+import dtm.dmanager.core.annotations.Inject;
+import dtm.dmanager.enums.DependencyCreatorType;
+import dtm.dmanager.enums.ReadinessState;
+import dtm.dmanager.exceptions.ApplicationManagerInitializeException;
+
+public class SetupFactoryRunner {
+
+    private final DependencyManager dependencyManager;
+    private final StartupInstrumentation instrumentation;
+    private final Executor executor;
+    private final List<FactoryNode> factories;
+    private final Map<Class<?>, SingletonHolder> setupInstances;
+    private final Map<FactoryNode, CompletableFuture<Long>> criticalPaths;
+    private final Map<FactoryNode, FactoryMethodReport> reports;
+    private final Map<FactoryNode, Long> startTimes;
+    private final List<FactoryNode> skippedFactories;
+    private List<FactoryNode> order;
+    private long startNanos;
+    private CompletableFuture<SetupReport> completion;
+    private volatile SetupReport finalReport;
+
+    public SetupFactoryRunner(DependencyManager dependencyManager, Collection<Class<?>> setupClasses, Executor executor, StartupInstrumentation instrumentation){
+        this.dependencyManager = dependencyManager;
+        this.instrumentation = instrumentation;
+        this.executor = executor;
+        this.factories = new ArrayList<>();
+        this.setupInstances = new ConcurrentHashMap<>();
+        this.criticalPaths = new LinkedHashMap<>();
+        this.reports = new ConcurrentHashMap<>();
+        this.startTimes = new ConcurrentHashMap<>();
+        this.skippedFactories = new ArrayList<>();
+        this.order = Collections.emptyList();
+        for (Class<?> setupClass : setupClasses) {
+            List<Requirement> setupRequirements = getSetupRequirements(setupClass);
+            for (Method method : getFactoryMethods(setupClass)) {
+                factories.add(new FactoryNode(setupClass, method, setupRequirements));
+            }
+        }
+    }
+
+    public SetupReport run(){
+        return start().getCompletion().join();
+    }
+
+    public synchronized SetupFactoryRunner start(){
+        if(completion != null){
+            return this;
+        }
+        startNanos = System.nanoTime();
+        Map<FactoryNode, Set<FactoryNode>> dependencies = new HashMap<>();
+        for (FactoryNode factory : factories) {
+            Set<FactoryNode> factoryDependencies = new LinkedHashSet<>();
+            for (Requirement requirement : factory.requirements) {
+                for (FactoryNode producer : factories) {
+                    if(producer != factory && requirement.isSatisfiedBy(producer)){
+                        factoryDependencies.add(producer);
+                    }
+                }
+            }
+            dependencies.put(factory, factoryDependencies);
+        }
+
+        order = sortTopologically(dependencies);
+        Set<FactoryNode> ordered = new LinkedHashSet<>(order);
+        for (FactoryNode factory : factories) {
+            if(!ordered.contains(factory)){
+                skippedFactories.add(factory);
+            }
+        }
+
+        for (FactoryNode factory : order) {
+            List<CompletableFuture<Long>> required = new ArrayList<>();
+            for (FactoryNode dependency : dependencies.get(factory)) {
+                required.add(criticalPaths.get(dependency));
+            }
+
+            CompletableFuture<Long> criticalPath = CompletableFuture.allOf(required.toArray(new CompletableFuture<?>[0]))
+                .thenComposeAsync(v -> {
+                    long longestDependency = 0;
+                    for (CompletableFuture<Long> dependencyPath : required) {
+                        longestDependency = Math.max(longestDependency, dependencyPath.join());
+                    }
+                    long dependencyTime = longestDependency;
+                    return invoke(factory).thenApply(report -> {
+                        reports.put(factory, report);
+                        return dependencyTime + report.getDuration().toNanos();
+                    });
+                }, executor);
+            criticalPaths.put(factory, criticalPath);
+        }
+
+        completion = CompletableFuture.allOf(criticalPaths.values().toArray(new CompletableFuture<?>[0]))
+            .handle((v, e) -> {
+                finalReport = createReport();
+                return finalReport;
+            });
+        return this;
+    }
+
+    public CompletableFuture<SetupReport> getCompletion(){
+        return completion;
+    }
+
+    public boolean awaitAll(Duration timeout){
+        return await(completion, timeout);
+    }
+
+    public boolean await(Collection<Class<?>> requiredTypes, Duration timeout){
+        List<CompletableFuture<Long>> required = new ArrayList<>();
+        for (Map.Entry<FactoryNode, CompletableFuture<Long>> entry : criticalPaths.entrySet()) {
+            for (Class<?> requiredType : requiredTypes) {
+                if(requiredType.isAssignableFrom(entry.getKey().producedType)){
+                    required.add(entry.getValue());
+                    break;
+                }
+            }
+        }
+        return await(CompletableFuture.allOf(required.toArray(new CompletableFuture<?>[0])), timeout);
+    }
+
+    public SetupReport getReport(){
+        SetupReport report = finalReport;
+        return (report != null) ? report : createReport();
+    }
+
+    public ReadinessReport getReadinessReport(){
+        long now = System.nanoTime();
+        List<BeanReadiness> beans = new ArrayList<>(factories.size());
+        for (FactoryNode factory : factories) {
+            FactoryMethodReport report = reports.get(factory);
+            String name = factory.setupClass.getName()+"."+factory.method.getName();
+            if(report != null){
+                ReadinessState state = (report.getFailure() == null) ? ReadinessState.READY : ReadinessState.FAILED;
+                beans.add(new BeanReadinessStorage(name, report.getBeanClass(), factory.qualifier, state, report.getDuration(), report.getFailure()));
+            }else if(skippedFactories.contains(factory)){
+                beans.add(new BeanReadinessStorage(name, factory.producedType, factory.qualifier, ReadinessState.SKIPPED, Duration.ZERO, null));
+            }else{
+                Long factoryStart = startTimes.get(factory);
+                Duration elapsed = (factoryStart == null) ? Duration.ZERO : Duration.ofNanos(now - factoryStart);
+                beans.add(new BeanReadinessStorage(name, factory.producedType, factory.qualifier, ReadinessState.PENDING, elapsed, null));
+            }
+        }
+        return new ReadinessReportStorage(Duration.ofNanos((startNanos == 0) ? 0 : now - startNanos), Collections.unmodifiableList(beans));
+    }
+
+    private boolean await(CompletableFuture<?> future, Duration timeout){
+        try {
+            if(timeout == null){
+                future.join();
+            }else{
+                future.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+            }
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException | CompletionException e) {
+            return true;
+        }
+    }
+
+    private SetupReport createReport(){
+        long criticalPathTime = 0;
+        for (CompletableFuture<Long> criticalPath : criticalPaths.values()) {
+            if(criticalPath.isDone() && !criticalPath.isCompletedExceptionally()){
+                criticalPathTime = Math.max(criticalPathTime, criticalPath.join());
+            }
+        }
+
+        List<FactoryMethodReport> factoryReports = new ArrayList<>();
+        List<FactoryMethodReport> failedFactories = new ArrayList<>();
+        for (FactoryNode factory : order) {
+            FactoryMethodReport report = reports.get(factory);
+            if(report == null){
+                continue;
+            }
+            factoryReports.add(report);
+            if(report.getFailure() != null){
+                failedFactories.add(report);
+            }
+        }
+
+        List<Method> skippedMethods = new ArrayList<>();
+        for (FactoryNode factory : skippedFactories) {
+            skippedMethods.add(factory.method);
+        }
+
+        return new SetupReportStorage(
+            Duration.ofNanos(System.nanoTime() - startNanos),
+            Duration.ofNanos(criticalPathTime),
+            factoryReports,
+            failedFactories,
+            skippedMethods
+        );
+    }
+
+    private CompletableFuture<FactoryMethodReport> invoke(FactoryNode factory){
+        long start = System.nanoTime();
+        startTimes.put(factory, start);
+        try {
+            Object instance = null;
+            if(!Modifier.isStatic(factory.method.getModifiers())){
+                instance = getSetupInstance(factory.setupClass);
+                if(instance == null){
+                    throw new ApplicationManagerInitializeException("Setup class can not be created: "+factory.setupClass.getName());
+                }
+            }
+
+            Object[] args = new Object[factory.parameters.length];
+            for (int i = 0; i < args.length; i++) {
+                Requirement parameter = factory.parameters[i];
+                args[i] = dependencyManager.getDependency(parameter.type, parameter.qualifier).getDependency();
+                if(args[i] == null){
+                    throw new ApplicationManagerInitializeException("Factory parameter "+parameter.type.getName()+" (qualifier "+parameter.qualifier+") can not be resolved for "+factory.setupClass.getName()+"."+factory.method.getName());
+                }
+            }
+
+            if (!factory.method.canAccess(instance)) {
+                factory.method.setAccessible(true);
+            }
+            Object result = factory.method.invoke(instance, args);
+            if(result instanceof CompletionStage<?> stage){
+                CompletableFuture<FactoryMethodReport> report = new CompletableFuture<>();
+                stage.whenComplete((value, error) -> report.complete(complete(factory, start, value, unwrap(error))));
+                return report;
+            }
+            return CompletableFuture.completedFuture(complete(factory, start, result, null));
+        } catch (InvocationTargetException e) {
+            return CompletableFuture.completedFuture(complete(factory, start, null, (e.getCause() == null) ? e : e.getCause()));
+        } catch (Exception e) {
+            return CompletableFuture.completedFuture(complete(factory, start, null, e));
+        }
+    }
+
+    private FactoryMethodReport complete(FactoryNode factory, long start, Object result, Throwable failure){
+        if(failure == null && result != null){
+            try {
+                register(result, factory.qualifier);
+            } catch (RuntimeException e) {
+                failure = e;
+            }
+        }
+
+        FactoryMethodReport report = new FactoryMethodReportStorage(
+            factory.setupClass,
+            factory.method,
+            factory.qualifier,
+            (result == null) ? factory.producedType : result.getClass(),
+            start,
+            Duration.ofNanos(System.nanoTime() - start),
+            Thread.currentThread().getName(),
+            failure == null && result != null,
+            failure
+        );
+        instrumentation.factoryCompleted(report);
+        return report;
+    }
+
+    private Throwable unwrap(Throwable error){
+        return (error instanceof CompletionException && error.getCause() != null) ? error.getCause() : error;
+    }
+
+    private Object getSetupInstance(Class<?> setupClass){
+        return setupInstances.computeIfAbsent(setupClass, c -> new SingletonHolder()).get(() -> dependencyManager.doCreate(setupClass));
+    }
+
+    private synchronized void register(Object result, String qualifier){
+        if(dependencyManager instanceof DependencyManagerApplication application){
+            application.addDependency(result, qualifier, false);
+        }else{
+            dependencyManager.addDependency(result, DependencyCreatorType.SINGLETON, qualifier);
+        }
+    }
+
+    private List<FactoryNode> sortTopologically(Map<FactoryNode, Set<FactoryNode>> dependencies){
+        Map<FactoryNode, Integer> pending = new HashMap<>();
+        Map<FactoryNode, List<FactoryNode>> dependents = new HashMap<>();
+        Deque<FactoryNode> ready = new ArrayDeque<>();
+
+        for (Map.Entry<FactoryNode, Set<FactoryNode>> entry : dependencies.entrySet()) {
+            pending.put(entry.getKey(), entry.getValue().size());
+            for (FactoryNode dependency : entry.getValue()) {
+                dependents.computeIfAbsent(dependency, k -> new ArrayList<>()).add(entry.getKey());
+            }
+        }
+        for (FactoryNode factory : factories) {
+            if(pending.get(factory) == 0){
+                ready.add(factory);
+            }
+        }
+
+        List<FactoryNode> order = new ArrayList<>();
+        while (!ready.isEmpty()) {
+            FactoryNode factory = ready.poll();
+            order.add(factory);
+            for (FactoryNode dependent : dependents.getOrDefault(factory, Collections.emptyList())) {
+                int remaining = pending.merge(dependent, -1, Integer::sum);
+                if(remaining == 0){
+                    ready.add(dependent);
+                }
+            }
+        }
+        return order;
+    }
+
+    private List<Method> getFactoryMethods(Class<?> setupClass){
+        try {
+            return Arrays.stream(setupClass.getMethods())
+                .filter(m -> m.isAnnotationPresent(FactoryMethod.class))
+                .sorted(Comparator.comparing(Method::getName))
+                .toList();
+        }catch (Exception e) {
+            return Collections.emptyList();
+        }
+    }
+
+    private List<Requirement> getSetupRequirements(Class<?> setupClass){
+        List<Requirement> requirements = new ArrayList<>();
+        try {
+            Constructor<?> constructor = Arrays.stream(setupClass.getDeclaredConstructors())
+                .filter(c -> c.isAnnotationPresent(Inject.class))
+                .findFirst()
+                .orElseGet(() -> Arrays.stream(setupClass.getConstructors()).min(Comparator.comparingInt(Constructor::getParameterCount)).orElse(null));
+            if(constructor != null){
+                for (Parameter parameter : constructor.getParameters()) {
+                    requirements.add(new Requirement(parameter.getType(), getQualifier(parameter.getAnnotation(Inject.class))));
+                }
+            }
+            for (Field field : setupClass.getDeclaredFields()) {
+                if(field.isAnnotationPresent(Inject.class)){
+                    requirements.add(new Requirement(field.getType(), getQualifier(field.getAnnotation(Inject.class))));
+                }
+            }
+        } catch (RuntimeException | LinkageError e) {
+
+        }
+        return requirements;
+    }
+
+    private static Class<?> getProducedType(Method method){
+        Class<?> returnType = method.getReturnType();
+        if(!CompletionStage.class.isAssignableFrom(returnType)){
+            return returnType;
+        }
+        if(method.getGenericReturnType() instanceof ParameterizedType parameterizedType){
+            Type argument = parameterizedType.getActualTypeArguments()[0];
+            if(argument instanceof Class<?> argumentClass){
+                return argumentClass;
+            }
+            if(argument instanceof ParameterizedType parameterizedArgument && parameterizedArgument.getRawType() instanceof Class<?> rawClass){
+                return rawClass;
+            }
+        }
+        return Object.class;
+    }
+
+    private static String getQualifier(Inject inject){
+        return (inject == null || inject.qualifier().isEmpty()) ? "default" : inject.qualifier();
+    }
+
+    private static class FactoryNode {
+        private final Class<?> setupClass;
+        private final Method method;
+        private final String qualifier;
+        private final Class<?> producedType;
+        private final Requirement[] parameters;
+        private final List<Requirement> requirements;
+
+        private FactoryNode(Class<?> setupClass, Method method, List<Requirement> setupRequirements){
+            FactoryMethod factoryMethod = method.getAnnotation(FactoryMethod.class);
+            this.setupClass = setupClass;
+            this.method = method;
+            this.qualifier = (factoryMethod.qualifier() == null || factoryMethod.qualifier().isEmpty()) ? "default" : factoryMethod.qualifier();
+            this.producedType = getProducedType(method);
+            this.parameters = new Requirement[method.getParameterCount()];
+            Parameter[] methodParameters = method.getParameters();
+            for (int i = 0; i < methodParameters.length; i++) {
+                parameters[i] = new Requirement(methodParameters[i].getType(), getQualifier(methodParameters[i].getAnnotation(Inject.class)));
+            }
+            this.requirements = new ArrayList<>(setupRequirements);
+            this.requirements.addAll(Arrays.asList(parameters));
+        }
+    }
+
+    private static class Requirement {
+        private final Class<?> type;
+        private final String qualifier;
+
+        private Requirement(Class<?> type, String qualifier){
+            this.type = type;
+            this.qualifier = qualifier;
+        }
+
+        private boolean isSatisfiedBy(FactoryNode producer){
+            Class<?> producedType = producer.producedType;
+            return producedType != void.class && producedType != Void.class
+                && type.isAssignableFrom(producedType)
+                && (qualifier.equals("default") || qualifier.equals(producer.qualifier));
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package dtm.dmanager.manager;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.List;
+
+import dtm.dmanager.core.FactoryMethodReport;
+import dtm.dmanager.core.SetupReport;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class SetupReportStorage implements SetupReport{
+
+    private Duration totalTime;
+    private Duration criticalPathTime;
+    private List<FactoryMethodReport> factories;
+    private List<FactoryMethodReport> failedFactories;
+    private List<Method> skippedFactories;
+
+    @Override
+    public String toString() {
+        return "SetupReportStorage [totalTime=" + totalTime + ", criticalPathTime=" + criticalPathTime + ", factories=" + factories.size()
+                + ", failedFactories=" + failedFactories + ", skippedFactories=" + skippedFactories + "]";
+    }
+}
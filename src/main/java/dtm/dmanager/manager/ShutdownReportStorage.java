@@ -0,0 +1,26 @@
+package dtm.dmanager.manager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import dtm.dmanager.core.ShutdownReport;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ShutdownReportStorage implements ShutdownReport{
+
+    private Duration totalTime;
+    private int destroyedCount;
+    private Map<Class<?>, Throwable> failures;
+    private boolean timedOut;
+    private List<Class<?>> pendingClasses;
+
+    @Override
+    public String toString() {
+        return "ShutdownReportStorage [totalTime=" + totalTime + ", destroyedCount=" + destroyedCount + ", failures=" + failures
+                + ", timedOut=" + timedOut + ", pendingClasses=" + pendingClasses + "]";
+    }
+}
@@ -0,0 +1,38 @@
+package dtm.dmanager.manager;
+
+import java.util.function.Supplier;
+
+public class SingletonHolder {
+
+    private volatile Object instance;
+
+    public Object get(Supplier<Object> dependencyCreator){
+        Object value = instance;
+        if(value != null){
+            return value;
+        }
+
+        synchronized (this) {
+            value = instance;
+            if(value == null){
+                value = dependencyCreator.get();
+                instance = value;
+            }
+        }
+        return value;
+    }
+
+    public Object getInstance(){
+        return instance;
+    }
+
+    public void setInstance(Object value){
+        synchronized (this) {
+            instance = value;
+        }
+    }
+
+    public boolean isCreated(){
+        return instance != null;
+    }
+}
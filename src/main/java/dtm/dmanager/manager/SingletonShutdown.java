@@ -0,0 +1,227 @@
+package dtm.dmanager.manager;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+
+import dtm.dmanager.core.DependencyManager;
+import dtm.dmanager.core.ShutdownReport;
+import dtm.dmanager.enums.DependencyCreatorType;
+import dtm.dmanager.enums.InjectionKind;
+
+public class SingletonShutdown {
+
+    private final Map<SingletonHolder, DependencyManagerStorage> singletons;
+    private final BiFunction<Class<?>, String, DependencyManagerStorage> lookup;
+    private final Executor executor;
+    private final Duration timeout;
+    private final BiConsumer<Class<?>, Throwable> failureHandler;
+    private final Map<Class<?>, Throwable> failures;
+    private final AtomicInteger destroyedCount;
+
+    public SingletonShutdown(Collection<DependencyManagerStorage> storages, BiFunction<Class<?>, String, DependencyManagerStorage> lookup, Executor executor, Duration timeout, BiConsumer<Class<?>, Throwable> failureHandler){
+        this.singletons = new LinkedHashMap<>();
+        this.lookup = lookup;
+        this.executor = executor;
+        this.timeout = timeout;
+        this.failureHandler = failureHandler;
+        this.failures = new ConcurrentHashMap<>();
+        this.destroyedCount = new AtomicInteger();
+        Set<SingletonHolder> providedInstances = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (DependencyManagerStorage storage : storages) {
+            if(storage.isExternallyProvided() && storage.getSingletonHolder() != null){
+                providedInstances.add(storage.getSingletonHolder());
+            }
+        }
+        for (DependencyManagerStorage storage : storages) {
+            SingletonHolder singletonHolder = storage.getSingletonHolder();
+            if(isShutdownCandidate(storage) && !providedInstances.contains(singletonHolder)){
+                singletons.putIfAbsent(singletonHolder, storage);
+            }
+        }
+    }
+
+    public ShutdownReport run(){
+        long start = System.nanoTime();
+        Map<SingletonHolder, Set<SingletonHolder>> dependents = new HashMap<>();
+        Map<SingletonHolder, Integer> pendingDependencies = new HashMap<>();
+        for (Map.Entry<SingletonHolder, DependencyManagerStorage> entry : singletons.entrySet()) {
+            Set<SingletonHolder> nodeDependencies = new LinkedHashSet<>();
+            collectDependencies(entry.getValue().getInjectionPlan(), nodeDependencies, Collections.newSetFromMap(new IdentityHashMap<>()));
+            nodeDependencies.remove(entry.getKey());
+            pendingDependencies.put(entry.getKey(), nodeDependencies.size());
+            for (SingletonHolder dependency : nodeDependencies) {
+                dependents.computeIfAbsent(dependency, k -> new LinkedHashSet<>()).add(entry.getKey());
+            }
+        }
+
+        List<SingletonHolder> order = sortTopologically(dependents, pendingDependencies);
+        Set<SingletonHolder> ordered = Collections.newSetFromMap(new IdentityHashMap<>());
+        ordered.addAll(order);
+        List<SingletonHolder> cyclic = new ArrayList<>();
+        for (SingletonHolder node : singletons.keySet()) {
+            if(!ordered.contains(node)){
+                cyclic.add(node);
+            }
+        }
+
+        Map<SingletonHolder, CompletableFuture<Void>> destroyed = new HashMap<>();
+        for (int i = order.size() - 1; i >= 0; i--) {
+            SingletonHolder node = order.get(i);
+            List<CompletableFuture<Void>> required = new ArrayList<>();
+            for (SingletonHolder dependent : dependents.getOrDefault(node, Collections.emptySet())) {
+                CompletableFuture<Void> dependentDestroyed = destroyed.get(dependent);
+                if(dependentDestroyed != null){
+                    required.add(dependentDestroyed);
+                }
+            }
+            destroyed.put(node, CompletableFuture.allOf(required.toArray(new CompletableFuture<?>[0]))
+                .thenRunAsync(() -> destroy(node), executor));
+        }
+
+        CompletableFuture<Void> shutdown = CompletableFuture.allOf(destroyed.values().toArray(new CompletableFuture<?>[0]))
+            .thenRunAsync(() -> {
+                for (SingletonHolder node : cyclic) {
+                    destroy(node);
+                }
+            }, executor);
+        boolean timedOut = !await(shutdown);
+
+        List<Class<?>> pendingClasses = new ArrayList<>();
+        for (Map.Entry<SingletonHolder, DependencyManagerStorage> entry : singletons.entrySet()) {
+            if(entry.getKey().isCreated()){
+                pendingClasses.add(entry.getValue().getDependencyClass());
+            }
+        }
+        return new ShutdownReportStorage(
+            Duration.ofNanos(System.nanoTime() - start),
+            destroyedCount.get(),
+            Collections.unmodifiableMap(new LinkedHashMap<>(failures)),
+            timedOut,
+            Collections.unmodifiableList(pendingClasses)
+        );
+    }
+
+    private boolean await(CompletableFuture<Void> shutdown){
+        try {
+            if(timeout == null){
+                shutdown.join();
+            }else{
+                shutdown.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+            }
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        } catch (ExecutionException e) {
+            if(e.getCause() instanceof Error error){
+                throw error;
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void destroy(SingletonHolder node){
+        Object instance = node.getInstance();
+        if(instance == null){
+            return;
+        }
+        try {
+            LifecycleCallbacks.of(instance.getClass()).destroy(instance);
+            destroyedCount.incrementAndGet();
+        } catch (Exception e) {
+            failures.put(instance.getClass(), e);
+            failureHandler.accept(instance.getClass(), e);
+        } finally {
+            node.setInstance(null);
+        }
+    }
+
+    private boolean isShutdownCandidate(DependencyManagerStorage storage){
+        SingletonHolder singletonHolder = storage.getSingletonHolder();
+        Object instance = (singletonHolder == null) ? null : singletonHolder.getInstance();
+        return storage.getCreatorStrategy() == DependencyCreatorType.SINGLETON
+            && instance != null
+            && !(instance instanceof DependencyManager);
+    }
+
+    private void collectDependencies(DependencyInjectionPlan injectionPlan, Set<SingletonHolder> nodeDependencies, Set<DependencyInjectionPlan> visited){
+        if(injectionPlan == null || !visited.add(injectionPlan)){
+            return;
+        }
+        collectDependencies(injectionPlan.getParameters(), nodeDependencies, visited);
+        collectDependencies(injectionPlan.getFields(), nodeDependencies, visited);
+    }
+
+    private void collectDependencies(InjectionPoint[] injectionPoints, Set<SingletonHolder> nodeDependencies, Set<DependencyInjectionPlan> visited){
+        for (InjectionPoint injectionPoint : injectionPoints) {
+            if(injectionPoint.getKind() == InjectionKind.MULTIPLE){
+                ResolutionNode node = ((DependencyCollectionResolver) injectionPoint.getHandle()).getResolutionNode();
+                for (int i = 0; node != null && i < node.size(); i++) {
+                    collectDependency(node.getStorage(i), nodeDependencies, visited);
+                }
+                continue;
+            }
+            DependencyManagerStorage target = injectionPoint.getTarget();
+            if(target == null || target.getActivationFunction() == null){
+                target = lookup.apply(injectionPoint.getType(), injectionPoint.getQualifier());
+            }
+            collectDependency(target, nodeDependencies, visited);
+        }
+    }
+
+    private void collectDependency(DependencyManagerStorage target, Set<SingletonHolder> nodeDependencies, Set<DependencyInjectionPlan> visited){
+        if(target == null){
+            return;
+        }
+        if(singletons.containsKey(target.getSingletonHolder())){
+            nodeDependencies.add(target.getSingletonHolder());
+        }else if(target.getCreatorStrategy() != DependencyCreatorType.SINGLETON){
+            collectDependencies(target.getInjectionPlan(), nodeDependencies, visited);
+        }
+    }
+
+    private List<SingletonHolder> sortTopologically(Map<SingletonHolder, Set<SingletonHolder>> dependents, Map<SingletonHolder, Integer> pendingDependencies){
+        Map<SingletonHolder, Integer> pending = new HashMap<>(pendingDependencies);
+        Deque<SingletonHolder> ready = new ArrayDeque<>();
+        for (SingletonHolder node : singletons.keySet()) {
+            if(pending.get(node) == 0){
+                ready.add(node);
+            }
+        }
+
+        List<SingletonHolder> order = new ArrayList<>();
+        while (!ready.isEmpty()) {
+            SingletonHolder node = ready.poll();
+            order.add(node);
+            for (SingletonHolder dependent : dependents.getOrDefault(node, Collections.emptySet())) {
+                int remaining = pending.merge(dependent, -1, Integer::sum);
+                if(remaining == 0){
+                    ready.add(dependent);
+                }
+            }
+        }
+        return order;
+    }
+}
@@ -0,0 +1,176 @@
+package dtm.dmanager.manager;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+
+import dtm.dmanager.core.WarmUpReport;
+import dtm.dmanager.core.annotations.Lazy;
+import dtm.dmanager.enums.DependencyCreatorType;
+import dtm.dmanager.enums.InjectionKind;
+
+public class SingletonWarmUp {
+
+    private final Map<SingletonHolder, DependencyManagerStorage> singletons;
+    private final Executor executor;
+
+    public SingletonWarmUp(Collection<DependencyManagerStorage> storages, Executor executor){
+        this.singletons = new LinkedHashMap<>();
+        this.executor = executor;
+        for (DependencyManagerStorage storage : storages) {
+            SingletonHolder singletonHolder = storage.getSingletonHolder();
+            if(isWarmUpCandidate(storage)){
+                singletons.putIfAbsent(singletonHolder, storage);
+            }
+        }
+    }
+
+    public WarmUpReport run(){
+        long start = System.nanoTime();
+        Map<SingletonHolder, Set<SingletonHolder>> dependencies = new HashMap<>();
+        for (Map.Entry<SingletonHolder, DependencyManagerStorage> entry : singletons.entrySet()) {
+            Set<SingletonHolder> nodeDependencies = new LinkedHashSet<>();
+            collectDependencies(entry.getValue().getInjectionPlan(), nodeDependencies, Collections.newSetFromMap(new IdentityHashMap<>()));
+            nodeDependencies.remove(entry.getKey());
+            dependencies.put(entry.getKey(), nodeDependencies);
+        }
+
+        List<SingletonHolder> order = sortTopologically(dependencies);
+        List<Class<?>> skippedClasses = new ArrayList<>();
+        Set<SingletonHolder> ordered = Collections.newSetFromMap(new IdentityHashMap<>());
+        ordered.addAll(order);
+        for (Map.Entry<SingletonHolder, DependencyManagerStorage> entry : singletons.entrySet()) {
+            if(!ordered.contains(entry.getKey())){
+                skippedClasses.add(entry.getValue().getDependencyClass());
+            }
+        }
+
+        ConcurrentLinkedQueue<Class<?>> failedClasses = new ConcurrentLinkedQueue<>();
+        Map<SingletonHolder, CompletableFuture<Long>> criticalPaths = new HashMap<>();
+        for (SingletonHolder node : order) {
+            DependencyManagerStorage storage = singletons.get(node);
+            List<CompletableFuture<Long>> required = new ArrayList<>();
+            for (SingletonHolder dependency : dependencies.get(node)) {
+                CompletableFuture<Long> dependencyPath = criticalPaths.get(dependency);
+                if(dependencyPath != null){
+                    required.add(dependencyPath);
+                }
+            }
+
+            CompletableFuture<Long> criticalPath = CompletableFuture.allOf(required.toArray(new CompletableFuture<?>[0]))
+                .thenApplyAsync(v -> {
+                    long longestDependency = 0;
+                    for (CompletableFuture<Long> dependencyPath : required) {
+                        longestDependency = Math.max(longestDependency, dependencyPath.join());
+                    }
+                    long creationStart = System.nanoTime();
+                    if(createInstance(storage) == null){
+                        failedClasses.add(storage.getDependencyClass());
+                    }
+                    return longestDependency + (System.nanoTime() - creationStart);
+                }, executor);
+            criticalPaths.put(node, criticalPath);
+        }
+
+        long criticalPathTime = 0;
+        for (CompletableFuture<Long> criticalPath : criticalPaths.values()) {
+            criticalPathTime = Math.max(criticalPathTime, criticalPath.join());
+        }
+
+        return new WarmUpReportStorage(
+            Duration.ofNanos(System.nanoTime() - start),
+            Duration.ofNanos(criticalPathTime),
+            order.size() - failedClasses.size(),
+            new ArrayList<>(failedClasses),
+            skippedClasses
+        );
+    }
+
+    private boolean isWarmUpCandidate(DependencyManagerStorage storage){
+        SingletonHolder singletonHolder = storage.getSingletonHolder();
+        return storage.getCreatorStrategy() == DependencyCreatorType.SINGLETON
+            && storage.getInjectionPlan() != null
+            && singletonHolder != null
+            && !singletonHolder.isCreated()
+            && !storage.getDependencyClass().isAnnotationPresent(Lazy.class);
+    }
+
+    private void collectDependencies(DependencyInjectionPlan injectionPlan, Set<SingletonHolder> nodeDependencies, Set<DependencyInjectionPlan> visited){
+        if(injectionPlan == null || !visited.add(injectionPlan)){
+            return;
+        }
+        collectDependencies(injectionPlan.getParameters(), nodeDependencies, visited);
+        collectDependencies(injectionPlan.getFields(), nodeDependencies, visited);
+    }
+
+    private void collectDependencies(InjectionPoint[] injectionPoints, Set<SingletonHolder> nodeDependencies, Set<DependencyInjectionPlan> visited){
+        for (InjectionPoint injectionPoint : injectionPoints) {
+            DependencyManagerStorage target = injectionPoint.getTarget();
+            if(target == null || injectionPoint.getKind() != InjectionKind.DIRECT){
+                continue;
+            }
+            if(singletons.containsKey(target.getSingletonHolder())){
+                nodeDependencies.add(target.getSingletonHolder());
+            }else if(target.getCreatorStrategy() != DependencyCreatorType.SINGLETON){
+                collectDependencies(target.getInjectionPlan(), nodeDependencies, visited);
+            }
+        }
+    }
+
+    private List<SingletonHolder> sortTopologically(Map<SingletonHolder, Set<SingletonHolder>> dependencies){
+        Map<SingletonHolder, Integer> pending = new HashMap<>();
+        Map<SingletonHolder, List<SingletonHolder>> dependents = new HashMap<>();
+        Deque<SingletonHolder> ready = new ArrayDeque<>();
+
+        for (Map.Entry<SingletonHolder, Set<SingletonHolder>> entry : dependencies.entrySet()) {
+            pending.put(entry.getKey(), entry.getValue().size());
+            for (SingletonHolder dependency : entry.getValue()) {
+                dependents.computeIfAbsent(dependency, k -> new ArrayList<>()).add(entry.getKey());
+            }
+        }
+        for (SingletonHolder node : singletons.keySet()) {
+            if(pending.get(node) == 0){
+                ready.add(node);
+            }
+        }
+
+        List<SingletonHolder> order = new ArrayList<>();
+        Set<SingletonHolder> visited = new HashSet<>();
+        while (!ready.isEmpty()) {
+            SingletonHolder node = ready.poll();
+            if(!visited.add(node)){
+                continue;
+            }
+            order.add(node);
+            for (SingletonHolder dependent : dependents.getOrDefault(node, Collections.emptyList())) {
+                int remaining = pending.merge(dependent, -1, Integer::sum);
+                if(remaining == 0){
+                    ready.add(dependent);
+                }
+            }
+        }
+        return order;
+    }
+
+    private Object createInstance(DependencyManagerStorage storage){
+        try {
+            return storage.getActivationFunction().get();
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package dtm.dmanager.manager;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import dtm.dmanager.core.BeanCreationEvent;
+import dtm.dmanager.core.DependencyManagerListener;
+import dtm.dmanager.core.FactoryMethodReport;
+import dtm.dmanager.core.ShutdownReport;
+import dtm.dmanager.core.StartupPhaseEvent;
+import dtm.dmanager.enums.StartupPhase;
+
+public class StartupInstrumentation {
+
+    private static final ThreadLocal<int[]> CREATION_DEPTH = ThreadLocal.withInitial(() -> new int[1]);
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = getThreadMXBean();
+
+    private final List<DependencyManagerListener> listeners;
+
+    public StartupInstrumentation(List<DependencyManagerListener> listeners){
+        this.listeners = listeners;
+    }
+
+    public boolean isEnabled(){
+        return listeners != null && !listeners.isEmpty();
+    }
+
+    public <T> T measurePhase(StartupPhase phase, Supplier<T> action){
+        if(!isEnabled()){
+            return action.get();
+        }
+
+        long allocatedStart = currentAllocatedBytes();
+        long start = System.nanoTime();
+        try {
+            return action.get();
+        } finally {
+            long duration = System.nanoTime() - start;
+            StartupPhaseEvent event = new StartupPhaseEventStorage(phase, start, Duration.ofNanos(duration), allocatedSince(allocatedStart), Thread.currentThread().getName());
+            notifyListeners(listener -> listener.onPhase(event));
+        }
+    }
+
+    public void measurePhase(StartupPhase phase, Runnable action){
+        measurePhase(phase, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    public Object measureCreation(DependencyManagerStorage managerStorage, Supplier<Object> dependencyCreator){
+        if(!isEnabled()){
+            return dependencyCreator.get();
+        }
+
+        int[] depth = CREATION_DEPTH.get();
+        int currentDepth = depth[0]++;
+        long allocatedStart = currentAllocatedBytes();
+        long start = System.nanoTime();
+        Object instance = null;
+        try {
+            instance = dependencyCreator.get();
+            return instance;
+        } finally {
+            long duration = System.nanoTime() - start;
+            depth[0] = currentDepth;
+            BeanCreationEvent event = new BeanCreationEventStorage(
+                managerStorage.getDependencyClass(),
+                managerStorage.getQualifier(),
+                managerStorage.getCreatorStrategy(),
+                start,
+                Duration.ofNanos(duration),
+                allocatedSince(allocatedStart),
+                currentDepth,
+                Thread.currentThread().getName(),
+                instance != null
+            );
+            notifyListeners(listener -> listener.onBeanCreated(event));
+        }
+    }
+
+    public void factoryCompleted(FactoryMethodReport report){
+        if(!isEnabled()){
+            return;
+        }
+        notifyListeners(listener -> listener.onFactoryMethod(report));
+    }
+
+    public void startupCompleted(Duration startupTime){
+        if(!isEnabled()){
+            return;
+        }
+        notifyListeners(listener -> listener.onStartupCompleted(startupTime));
+    }
+
+    public void destroyFailed(Class<?> beanClass, Throwable failure){
+        if(!isEnabled()){
+            return;
+        }
+        notifyListeners(listener -> listener.onDestroyFailure(beanClass, failure));
+    }
+
+    public void snapshotFailed(Path snapshotFile, Throwable failure){
+        if(!isEnabled()){
+            return;
+        }
+        notifyListeners(listener -> listener.onSnapshotFailure(snapshotFile, failure));
+    }
+
+    public void metricsMBeanFailed(String objectName, Throwable failure){
+        if(!isEnabled()){
+            return;
+        }
+        notifyListeners(listener -> listener.onMetricsMBeanFailure(objectName, failure));
+    }
+
+    public void shutdownCompleted(ShutdownReport report){
+        if(!isEnabled()){
+            return;
+        }
+        notifyListeners(listener -> listener.onShutdownCompleted(report));
+    }
+
+    private void notifyListeners(Consumer<DependencyManagerListener> notification){
+        for (DependencyManagerListener listener : listeners) {
+            try {
+                notification.accept(listener);
+            } catch (RuntimeException e) {
+                listenerFailed(listener, e);
+            }
+        }
+    }
+
+    private void listenerFailed(DependencyManagerListener failedListener, RuntimeException failure){
+        for (DependencyManagerListener listener : listeners) {
+            if(listener == failedListener){
+                continue;
+            }
+            try {
+                listener.onListenerFailure(failedListener, failure);
+            } catch (RuntimeException e) {
+                failure.addSuppressed(e);
+            }
+        }
+    }
+
+    public static long currentAllocatedBytes(){
+        if(THREAD_MX_BEAN == null){
+            return -1;
+        }
+        try {
+            return THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+        } catch (UnsupportedOperationException e) {
+            return -1;
+        }
+    }
+
+    private static long allocatedSince(long allocatedStart){
+        if(allocatedStart < 0){
+            return -1;
+        }
+        long allocatedEnd = currentAllocatedBytes();
+        return (allocatedEnd < 0) ? -1 : allocatedEnd - allocatedStart;
+    }
+
+    private static com.sun.management.ThreadMXBean getThreadMXBean(){
+        try {
+            java.lang.management.ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+            if(threadMXBean instanceof com.sun.management.ThreadMXBean sunThreadMXBean && sunThreadMXBean.isThreadAllocatedMemorySupported()){
+                sunThreadMXBean.setThreadAllocatedMemoryEnabled(true);
+                return sunThreadMXBean;
+            }
+        } catch (RuntimeException | LinkageError e) {
+
+        }
+        return null;
+    }
+}
@@ -0,0 +1,18 @@
+package dtm.dmanager.manager;
+
+import java.time.Duration;
+
+import dtm.dmanager.core.StartupPhaseEvent;
+import dtm.dmanager.enums.StartupPhase;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class StartupPhaseEventStorage implements StartupPhaseEvent{
+    private StartupPhase phase;
+    private long startNanos;
+    private Duration duration;
+    private long allocatedBytes;
+    private String threadName;
+}
@@ -0,0 +1,269 @@
+package dtm.dmanager.manager;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import dtm.dmanager.core.ApplicationClassIndex;
+import dtm.dmanager.enums.DependencyCreatorType;
+
+public class StartupSnapshot {
+
+    private static final int MAGIC = 0x444D534E;
+    private static final int VERSION = 2;
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final String INDEX_SERVICE_FILE = "META-INF/services/" + ApplicationClassIndex.class.getName();
+
+    private final long classpathKey;
+    private final Set<Class<?>> applicationClasses;
+    private final Map<Class<?>, Registration> registrations;
+
+    public StartupSnapshot(long classpathKey, Set<Class<?>> applicationClasses, Collection<Registration> registrations){
+        this.classpathKey = classpathKey;
+        this.applicationClasses = Collections.unmodifiableSet(new LinkedHashSet<>(applicationClasses));
+        Map<Class<?>, Registration> registrationMap = new HashMap<>();
+        for (Registration registration : registrations) {
+            registrationMap.put(registration.getDependencyClass(), registration);
+        }
+        this.registrations = Collections.unmodifiableMap(registrationMap);
+    }
+
+    public long getClasspathKey() {
+        return classpathKey;
+    }
+
+    public Set<Class<?>> getApplicationClasses() {
+        return applicationClasses;
+    }
+
+    public Collection<Registration> getRegistrations() {
+        return registrations.values();
+    }
+
+    public Registration getRegistration(Class<?> dependencyClass){
+        return registrations.get(dependencyClass);
+    }
+
+    public void write(Path snapshotFile) throws IOException{
+        Path parent = snapshotFile.toAbsolutePath().getParent();
+        if(parent != null){
+            Files.createDirectories(parent);
+        }
+        Path temporaryFile = Files.createTempFile((parent == null) ? Path.of(".") : parent, "dmanager", ".snapshot");
+        try (OutputStream fileOutput = Files.newOutputStream(temporaryFile);
+            DataOutputStream output = new DataOutputStream(new BufferedOutputStream(fileOutput))) {
+            output.writeInt(MAGIC);
+            output.writeInt(VERSION);
+            output.writeLong(classpathKey);
+
+            output.writeInt(applicationClasses.size());
+            for (Class<?> applicationClass : applicationClasses) {
+                writeString(output, applicationClass.getName());
+            }
+
+            output.writeInt(registrations.size());
+            for (Registration registration : registrations.values()) {
+                writeString(output, registration.getDependencyClass().getName());
+                writeString(output, registration.getQualifier());
+                writeString(output, registration.getCreatorStrategy().name());
+                output.writeBoolean(registration.isContainsFielInject());
+                output.writeInt(registration.getParentClasses().size());
+                for (Class<?> parentClass : registration.getParentClasses()) {
+                    writeString(output, parentClass.getName());
+                }
+            }
+        }
+        try {
+            Files.move(temporaryFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            Files.move(temporaryFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    public static StartupSnapshot read(Path snapshotFile, long expectedKey, ClassLoader classLoader){
+        if(snapshotFile == null || !Files.isRegularFile(snapshotFile)){
+            return null;
+        }
+
+        try (FileChannel channel = FileChannel.open(snapshotFile, StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if(buffer.getInt() != MAGIC || buffer.getInt() != VERSION || buffer.getLong() != expectedKey){
+                return null;
+            }
+
+            Set<Class<?>> applicationClasses = new LinkedHashSet<>();
+            int applicationClassCount = buffer.getInt();
+            for (int i = 0; i < applicationClassCount; i++) {
+                applicationClasses.add(loadClass(readString(buffer), classLoader));
+            }
+
+            int registrationCount = buffer.getInt();
+            List<Registration> registrations = new ArrayList<>(registrationCount);
+            for (int i = 0; i < registrationCount; i++) {
+                Class<?> dependencyClass = loadClass(readString(buffer), classLoader);
+                String qualifier = readString(buffer);
+                DependencyCreatorType strategy = DependencyCreatorType.valueOf(readString(buffer));
+                boolean containsFielInject = buffer.get() != 0;
+                int parentCount = buffer.getInt();
+                List<Class<?>> parentClasses = new ArrayList<>(parentCount);
+                for (int j = 0; j < parentCount; j++) {
+                    parentClasses.add(loadClass(readString(buffer), classLoader));
+                }
+                registrations.add(new Registration(dependencyClass, qualifier, strategy, containsFielInject, parentClasses));
+            }
+            return new StartupSnapshot(expectedKey, applicationClasses, registrations);
+        } catch (IOException | BufferUnderflowException | IllegalArgumentException | ClassNotFoundException | LinkageError e) {
+            return null;
+        }
+    }
+
+    public static long classpathKey(){
+        return classpathKey(System.getProperty("java.class.path", ""));
+    }
+
+    public static long classpathKey(String classpath){
+        long hash = mix(FNV_OFFSET, VERSION);
+        for (String entry : classpath.split(File.pathSeparator)) {
+            if(entry.isEmpty()){
+                continue;
+            }
+            Path path = Path.of(entry);
+            hash = mix(hash, entry);
+            try {
+                if(Files.isDirectory(path)){
+                    Path indexServiceFile = path.resolve(INDEX_SERVICE_FILE);
+                    hash = mix(hash, Files.isRegularFile(indexServiceFile) ? indexKey(path, indexServiceFile) : directoryKey(path));
+                }else if(Files.isRegularFile(path)){
+                    hash = fileKey(hash, path);
+                }
+            } catch (IOException | RuntimeException e) {
+                hash = mix(hash, -1L);
+            }
+        }
+        return hash;
+    }
+
+    private static long indexKey(Path directory, Path indexServiceFile) throws IOException{
+        long hash = fileKey(FNV_OFFSET, indexServiceFile);
+        for (String line : Files.readAllLines(indexServiceFile, StandardCharsets.UTF_8)) {
+            String indexName = line.trim();
+            if(indexName.isEmpty() || indexName.startsWith("#")){
+                continue;
+            }
+            Path indexClassFile = directory.resolve(indexName.replace('.', File.separatorChar) + ".class");
+            hash = mix(hash, indexName);
+            hash = Files.isRegularFile(indexClassFile) ? fileKey(hash, indexClassFile) : mix(hash, -1L);
+        }
+        return hash;
+    }
+
+    private static long directoryKey(Path directory) throws IOException{
+        long[] hash = {0L};
+        Files.walkFileTree(directory, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+                if(attributes.isRegularFile()){
+                    long fileHash = mix(FNV_OFFSET, directory.relativize(file).toString());
+                    fileHash = mix(fileHash, attributes.size());
+                    hash[0] += mix(fileHash, attributes.lastModifiedTime().toMillis());
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+        return hash[0];
+    }
+
+    private static long fileKey(long hash, Path file) throws IOException{
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        hash = mix(hash, attributes.size());
+        return mix(hash, attributes.lastModifiedTime().toMillis());
+    }
+
+    private static long mix(long hash, String value){
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash = (hash ^ (b & 0xff)) * FNV_PRIME;
+        }
+        return (hash ^ 0xff) * FNV_PRIME;
+    }
+
+    private static long mix(long hash, long value){
+        for (int i = 0; i < Long.BYTES; i++) {
+            hash = (hash ^ ((value >>> (i * 8)) & 0xff)) * FNV_PRIME;
+        }
+        return hash;
+    }
+
+    private static Class<?> loadClass(String className, ClassLoader classLoader) throws ClassNotFoundException{
+        return Class.forName(className, false, classLoader);
+    }
+
+    private static void writeString(DataOutputStream output, String value) throws IOException{
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer){
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public static class Registration {
+        private final Class<?> dependencyClass;
+        private final String qualifier;
+        private final DependencyCreatorType creatorStrategy;
+        private final boolean containsFielInject;
+        private final List<Class<?>> parentClasses;
+
+        public Registration(Class<?> dependencyClass, String qualifier, DependencyCreatorType creatorStrategy, boolean containsFielInject, List<Class<?>> parentClasses){
+            this.dependencyClass = dependencyClass;
+            this.qualifier = qualifier;
+            this.creatorStrategy = creatorStrategy;
+            this.containsFielInject = containsFielInject;
+            this.parentClasses = Collections.unmodifiableList(new ArrayList<>(parentClasses));
+        }
+
+        public Class<?> getDependencyClass() {
+            return dependencyClass;
+        }
+
+        public String getQualifier() {
+            return qualifier;
+        }
+
+        public DependencyCreatorType getCreatorStrategy() {
+            return creatorStrategy;
+        }
+
+        public boolean isContainsFielInject() {
+            return containsFielInject;
+        }
+
+        public List<Class<?>> getParentClasses() {
+            return parentClasses;
+        }
+    }
+}
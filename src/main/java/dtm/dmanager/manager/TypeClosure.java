@@ -0,0 +1,50 @@
+package dtm.dmanager.manager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+public final class TypeClosure {
+
+    private static final ClassValue<List<Class<?>>> SUPERTYPES = new ClassValue<>() {
+        @Override
+        protected List<Class<?>> computeValue(Class<?> type) {
+            Set<Class<?>> supertypes = new LinkedHashSet<>();
+            for (Class<?> interfaceType : type.getInterfaces()) {
+                supertypes.add(interfaceType);
+                supertypes.addAll(get(interfaceType));
+            }
+            Class<?> superClass = type.getSuperclass();
+            if(superClass != null && superClass != Object.class){
+                supertypes.add(superClass);
+                supertypes.addAll(get(superClass));
+            }
+            return Collections.unmodifiableList(new ArrayList<>(supertypes));
+        }
+    };
+
+    private static final ClassValue<List<Class<?>>> ASSIGNABLE_TYPES = new ClassValue<>() {
+        @Override
+        protected List<Class<?>> computeValue(Class<?> type) {
+            List<Class<?>> supertypes = SUPERTYPES.get(type);
+            List<Class<?>> assignableTypes = new ArrayList<>(supertypes.size() + 1);
+            assignableTypes.add(type);
+            assignableTypes.addAll(supertypes);
+            return Collections.unmodifiableList(assignableTypes);
+        }
+    };
+
+    private TypeClosure(){
+
+    }
+
+    public static List<Class<?>> getSupertypes(Class<?> type){
+        return SUPERTYPES.get(type);
+    }
+
+    public static List<Class<?>> getAssignableTypes(Class<?> type){
+        return ASSIGNABLE_TYPES.get(type);
+    }
+}
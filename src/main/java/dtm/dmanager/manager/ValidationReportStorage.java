@@ -0,0 +1,45 @@
+package dtm.dmanager.manager;
+
+import java.time.Duration;
+import java.util.List;
+
+import dtm.dmanager.core.ValidationReport;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ValidationReportStorage implements ValidationReport{
+
+    private Duration totalTime;
+    private int checkedCount;
+    private List<String> problems;
+    private List<List<Class<?>>> cycles;
+
+    @Override
+    public boolean isValid() {
+        return problems.isEmpty() && cycles.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        if(isValid()){
+            return "Dependency graph validation passed (" + checkedCount + " dependencies checked)";
+        }
+        StringBuilder report = new StringBuilder("Dependency graph validation failed (")
+            .append(problems.size()).append(" problem(s), ")
+            .append(cycles.size()).append(" cycle(s), ")
+            .append(checkedCount).append(" dependencies checked)");
+        for (String problem : problems) {
+            report.append("\n  - ").append(problem);
+        }
+        for (List<Class<?>> cycle : cycles) {
+            report.append("\n  - cycle: ");
+            for (Class<?> dependencyClass : cycle) {
+                report.append(dependencyClass.getName()).append(" -> ");
+            }
+            report.append(cycle.get(0).getName());
+        }
+        return report.toString();
+    }
+}
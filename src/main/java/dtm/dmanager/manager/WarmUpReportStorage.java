@@ -0,0 +1,25 @@
+package dtm.dmanager.manager;
+
+import java.time.Duration;
+import java.util.List;
+
+import dtm.dmanager.core.WarmUpReport;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class WarmUpReportStorage implements WarmUpReport{
+
+    private Duration totalTime;
+    private Duration criticalPathTime;
+    private int createdCount;
+    private List<Class<?>> failedClasses;
+    private List<Class<?>> skippedClasses;
+
+    @Override
+    public String toString() {
+        return "WarmUpReportStorage [totalTime=" + totalTime + ", criticalPathTime=" + criticalPathTime + ", createdCount=" + createdCount
+                + ", failedClasses=" + failedClasses + ", skippedClasses=" + skippedClasses + "]";
+    }
+}
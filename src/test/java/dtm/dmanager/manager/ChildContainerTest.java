@@ -0,0 +1,123 @@
+package dtm.dmanager.manager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import dtm.dmanager.core.DependencyManager;
+import dtm.dmanager.core.annotations.Inject;
+import dtm.dmanager.core.annotations.Injectable;
+import dtm.dmanager.enums.DependencyCreatorType;
+
+class ChildContainerTest {
+
+    public interface Greeter {
+        String greet();
+    }
+
+    @Injectable
+    public static class English implements Greeter {
+        @Override
+        public String greet() {
+            return "hello";
+        }
+    }
+
+    @Injectable(qualifier = "formal")
+    public static class Formal implements Greeter {
+        @Override
+        public String greet() {
+            return "good morning";
+        }
+    }
+
+    public static class Fixed implements Greeter {
+        private final String greeting;
+
+        public Fixed(String greeting){
+            this.greeting = greeting;
+        }
+
+        @Override
+        public String greet() {
+            return greeting;
+        }
+    }
+
+    @Injectable
+    public static class ParentConsumer {
+        @Inject
+        Greeter greeter;
+    }
+
+    @Injectable(createStrategy = DependencyCreatorType.PROTOTYPE)
+    public static class ChildConsumer {
+        @Inject
+        Greeter greeter;
+
+        @Inject(qualifier = "formal")
+        Greeter formal;
+    }
+
+    @Injectable
+    public static class LateBean {}
+
+    @Test
+    void childFallsThroughToParent() {
+        try (DependencyManagerApplication parent = newDependencyManager(English.class, ParentConsumer.class);
+             DependencyManager child = parent.createChild()) {
+            assertSame(parent.get(Greeter.class), child.get(Greeter.class));
+            assertSame(parent.get(ParentConsumer.class), child.get(ParentConsumer.class));
+
+            parent.addDependency(LateBean.class);
+            assertSame(parent.get(LateBean.class), child.get(LateBean.class));
+        }
+    }
+
+    @Test
+    void childRegistrationShadowsParentOnlyInsideChild() {
+        try (DependencyManagerApplication parent = newDependencyManager(English.class, Formal.class, ParentConsumer.class);
+             DependencyManager child = parent.createChild()) {
+            child.addDependency(new Fixed("hi"), DependencyCreatorType.SINGLETON, "default");
+            child.addDependency(ChildConsumer.class);
+
+            assertEquals("hi", child.get(Greeter.class).greet());
+            assertEquals("hello", parent.get(Greeter.class).greet());
+            assertEquals("hello", child.get(ParentConsumer.class).greeter.greet());
+
+            ChildConsumer consumer = child.get(ChildConsumer.class);
+            assertEquals("hi", consumer.greeter.greet());
+            assertEquals("good morning", consumer.formal.greet());
+            assertNull(parent.get(ChildConsumer.class));
+        }
+    }
+
+    @Test
+    void qualifierOverrideStaysInChild() {
+        try (DependencyManagerApplication parent = newDependencyManager(English.class, Formal.class);
+             DependencyManager child = parent.createChild()) {
+            child.addDependency(new Fixed("greetings"), DependencyCreatorType.SINGLETON, "formal");
+
+            assertEquals("greetings", child.get(Greeter.class, "formal").greet());
+            assertEquals("hello", child.get(Greeter.class).greet());
+            assertEquals("good morning", parent.get(Greeter.class, "formal").greet());
+
+            Map<String, Greeter> childGreeters = child.getAllByQualifier(Greeter.class);
+            assertEquals("greetings", childGreeters.get("formal").greet());
+            assertEquals("hello", childGreeters.get("default").greet());
+            assertEquals("good morning", parent.getAllByQualifier(Greeter.class).get("formal").greet());
+        }
+    }
+
+    private static DependencyManagerApplication newDependencyManager(Class<?>... classes){
+        DependencyManagerApplication dependencyManager = new DependencyManagerApplication(null, new HashSet<>(List.of(classes)));
+        dependencyManager.initialize();
+        return dependencyManager;
+    }
+}
@@ -0,0 +1,120 @@
+package dtm.dmanager.manager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+import dtm.dmanager.core.annotations.Inject;
+import dtm.dmanager.core.annotations.Injectable;
+import dtm.dmanager.enums.DependencyCreatorType;
+
+class CollectionInjectionTest {
+
+    public interface Plugin {
+        String name();
+    }
+
+    @Injectable(qualifier = "zeta", order = 1)
+    public static class Zeta implements Plugin {
+        @Override
+        public String name() {
+            return "zeta";
+        }
+    }
+
+    @Injectable(qualifier = "alpha", order = 2)
+    public static class Alpha implements Plugin {
+        @Override
+        public String name() {
+            return "alpha";
+        }
+    }
+
+    @Injectable(qualifier = "beta", order = 2)
+    public static class Beta implements Plugin {
+        @Override
+        public String name() {
+            return "beta";
+        }
+    }
+
+    @Injectable(qualifier = "beta", order = 3)
+    public static class ShadowedBeta implements Plugin {
+        @Override
+        public String name() {
+            return "shadowed";
+        }
+    }
+
+    @Injectable(createStrategy = DependencyCreatorType.PROTOTYPE)
+    public static class PluginConsumer {
+        @Inject
+        List<Plugin> list;
+
+        @Inject
+        Plugin[] array;
+
+        @Inject
+        Map<String, Plugin> map;
+    }
+
+    @Test
+    void collectionsFollowOrderThenQualifier() {
+        try (DependencyManagerApplication dependencyManager = newDependencyManager(Alpha.class, Beta.class, Zeta.class, ShadowedBeta.class, PluginConsumer.class)) {
+            PluginConsumer consumer = dependencyManager.get(PluginConsumer.class);
+
+            assertEquals(List.of("zeta", "alpha", "beta", "shadowed"), names(consumer.list));
+            assertEquals(List.of("zeta", "alpha", "beta", "shadowed"), names(List.of(consumer.array)));
+            assertEquals(List.of("zeta", "alpha", "beta"), new ArrayList<>(consumer.map.keySet()));
+            assertEquals("beta", consumer.map.get("beta").name());
+        }
+    }
+
+    @Test
+    void singletonCollectionsAreSharedButArraysAreCopied() {
+        try (DependencyManagerApplication dependencyManager = newDependencyManager(Alpha.class, Zeta.class, PluginConsumer.class)) {
+            PluginConsumer first = dependencyManager.get(PluginConsumer.class);
+            PluginConsumer second = dependencyManager.get(PluginConsumer.class);
+
+            assertSame(first.list, second.list);
+            assertNotSame(first.array, second.array);
+            assertSame(first.array[0], second.array[0]);
+        }
+    }
+
+    @Test
+    void missingElementIsNotCached() {
+        try (DependencyManagerApplication dependencyManager = newDependencyManager(Alpha.class, Zeta.class, PluginConsumer.class)) {
+            DependencyManagerStorage storage = dependencyManager.findDependencyStorage(Plugin.class, "alpha");
+            Supplier<Object> activationFunction = storage.getActivationFunction();
+
+            storage.setActivationFunction(() -> null);
+            assertEquals(List.of("zeta"), names(dependencyManager.get(PluginConsumer.class).list));
+
+            storage.setActivationFunction(activationFunction);
+            assertEquals(List.of("zeta", "alpha"), names(dependencyManager.get(PluginConsumer.class).list));
+        }
+    }
+
+    private static List<String> names(List<Plugin> plugins){
+        List<String> names = new ArrayList<>();
+        for (Plugin plugin : plugins) {
+            names.add(plugin.name());
+        }
+        return names;
+    }
+
+    private static DependencyManagerApplication newDependencyManager(Class<?>... classes){
+        DependencyManagerApplication dependencyManager = new DependencyManagerApplication(null, new HashSet<>(List.of(classes)));
+        dependencyManager.initialize();
+        return dependencyManager;
+    }
+}
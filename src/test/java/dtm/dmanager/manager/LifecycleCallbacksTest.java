@@ -0,0 +1,66 @@
+package dtm.dmanager.manager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import dtm.dmanager.core.annotations.PostConstruct;
+import dtm.dmanager.core.annotations.PreDestroy;
+
+class LifecycleCallbacksTest {
+
+    public static class Base {
+        final List<String> calls = new ArrayList<>();
+
+        @PostConstruct
+        void start(){
+            calls.add("base.start");
+        }
+
+        @PostConstruct
+        private void prepare(){
+            calls.add("base.prepare");
+        }
+
+        @PreDestroy
+        void stop(){
+            calls.add("base.stop");
+        }
+    }
+
+    public static class Derived extends Base {
+        @Override
+        @PostConstruct
+        void start(){
+            calls.add("derived.start");
+        }
+
+        @PostConstruct
+        private void prepare(){
+            calls.add("derived.prepare");
+        }
+
+        @PreDestroy
+        void release(){
+            calls.add("derived.release");
+        }
+    }
+
+    @Test
+    void overriddenCallbacksRunOnceAndPrivateOnesRunPerClass() throws Throwable {
+        Derived derived = new Derived();
+        LifecycleCallbacks callbacks = LifecycleCallbacks.of(Derived.class);
+
+        callbacks.postConstruct(derived);
+        assertEquals(3, derived.calls.size());
+        assertEquals(1, derived.calls.stream().filter("derived.start"::equals).count());
+        assertEquals(List.of("base.prepare", "derived.prepare"), derived.calls.stream().filter(call -> call.endsWith(".prepare")).toList());
+
+        derived.calls.clear();
+        callbacks.destroy(derived);
+        assertEquals(List.of("derived.release", "base.stop"), derived.calls);
+    }
+}
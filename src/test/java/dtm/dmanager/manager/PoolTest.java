@@ -0,0 +1,148 @@
+package dtm.dmanager.manager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import dtm.dmanager.core.PooledDependency;
+import dtm.dmanager.core.annotations.Inject;
+import dtm.dmanager.core.annotations.Injectable;
+import dtm.dmanager.core.annotations.PoolReset;
+import dtm.dmanager.enums.DependencyCreatorType;
+import dtm.dmanager.exceptions.DependencyManagerInitializeException;
+
+class PoolTest {
+
+    @Injectable(createStrategy = DependencyCreatorType.POOLED, poolSize = 2)
+    public static class Buffer {
+        int used;
+        int resets;
+
+        @PoolReset
+        void reset(){
+            used = 0;
+            resets++;
+        }
+    }
+
+    @Injectable
+    public static class Settings {}
+
+    @Injectable
+    public static class BufferConsumer {
+        @Inject
+        Buffer buffer;
+    }
+
+    @Test
+    void releasedInstanceIsResetAndReused() {
+        try (DependencyManagerApplication dependencyManager = newDependencyManager(Buffer.class)) {
+            Buffer buffer = dependencyManager.get(Buffer.class);
+            buffer.used = 10;
+
+            assertTrue(dependencyManager.release(buffer));
+            assertEquals(0, buffer.used);
+            assertEquals(1, buffer.resets);
+            assertSame(buffer, dependencyManager.get(Buffer.class));
+            assertEquals(1, dependencyManager.getPoolMetrics(Buffer.class).getHits());
+        }
+    }
+
+    @Test
+    void releaseRejectsDoubleAndForeignReturns() {
+        try (DependencyManagerApplication dependencyManager = newDependencyManager(Buffer.class)) {
+            Buffer buffer = dependencyManager.get(Buffer.class);
+
+            assertTrue(dependencyManager.release(buffer));
+            assertFalse(dependencyManager.release(buffer));
+            assertFalse(dependencyManager.release(new Buffer()));
+            assertEquals(1, dependencyManager.getPoolMetrics(Buffer.class).getIdleCount());
+        }
+    }
+
+    @Test
+    void exhaustedPoolCreatesUntrackedInstances() {
+        try (DependencyManagerApplication dependencyManager = newDependencyManager(Buffer.class)) {
+            int maxSize = dependencyManager.getPoolMetrics(Buffer.class).getMaxSize();
+            Set<Buffer> borrowed = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (int i = 0; i < maxSize + 3; i++) {
+                borrowed.add(dependencyManager.get(Buffer.class));
+            }
+            assertEquals(maxSize + 3, borrowed.size());
+
+            int returned = 0;
+            for (Buffer buffer : borrowed) {
+                returned += dependencyManager.release(buffer) ? 1 : 0;
+            }
+            assertEquals(maxSize, returned);
+            assertEquals(maxSize, dependencyManager.getPoolMetrics(Buffer.class).getIdleCount());
+        }
+    }
+
+    @Test
+    void unreleasedInstancesAreNotRetainedBeyondPoolSize() {
+        DependencyPool dependencyPool = new DependencyPool(Buffer.class, 2);
+        List<Object> borrowed = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            borrowed.add(dependencyPool.borrow(Buffer::new));
+        }
+
+        int tracked = 0;
+        for (Object instance : borrowed) {
+            tracked += dependencyPool.isBorrowed(instance) ? 1 : 0;
+        }
+        assertEquals(dependencyPool.getMaxSize(), tracked);
+
+        dependencyPool.clear();
+        assertFalse(dependencyPool.isBorrowed(borrowed.get(0)));
+        assertFalse(dependencyPool.release(borrowed.get(0)));
+    }
+
+    @Test
+    void pooledHandleReturnsInstanceOnClose() {
+        try (DependencyManagerApplication dependencyManager = newDependencyManager(Buffer.class)) {
+            PooledDependency<Buffer> handle = dependencyManager.borrow(Buffer.class);
+            Buffer buffer = handle.get();
+            handle.close();
+            handle.close();
+
+            assertThrows(IllegalStateException.class, handle::get);
+            assertEquals(1, dependencyManager.getPoolMetrics(Buffer.class).getReturns());
+            assertSame(buffer, dependencyManager.get(Buffer.class));
+        }
+    }
+
+    @Test
+    void borrowReturnsNullForUnpooledBeans() {
+        try (DependencyManagerApplication dependencyManager = newDependencyManager(Buffer.class, Settings.class)) {
+            assertNull(dependencyManager.borrow(Settings.class));
+            assertNotNull(dependencyManager.borrow(Buffer.class));
+        }
+    }
+
+    @Test
+    void directPooledInjectionIsRejected() {
+        DependencyManagerApplication dependencyManager = new DependencyManagerApplication(null, new HashSet<>(List.of(Buffer.class, BufferConsumer.class)));
+        assertThrows(DependencyManagerInitializeException.class, dependencyManager::initialize);
+        dependencyManager.close();
+    }
+
+    private static DependencyManagerApplication newDependencyManager(Class<?>... classes){
+        DependencyManagerApplication dependencyManager = new DependencyManagerApplication(null, new HashSet<>(List.of(classes)));
+        dependencyManager.initialize();
+        return dependencyManager;
+    }
+}
@@ -0,0 +1,91 @@
+package dtm.dmanager.manager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+import dtm.dmanager.core.Provider;
+import dtm.dmanager.core.annotations.Inject;
+import dtm.dmanager.core.annotations.Injectable;
+import dtm.dmanager.enums.DependencyCreatorType;
+
+class ProviderInjectionTest {
+
+    public interface Greeter {
+        String greet();
+    }
+
+    @Injectable
+    public static class English implements Greeter {
+        @Override
+        public String greet() {
+            return "hello";
+        }
+    }
+
+    @Injectable
+    public static class Portuguese implements Greeter {
+        @Override
+        public String greet() {
+            return "ola";
+        }
+    }
+
+    @Injectable(createStrategy = DependencyCreatorType.PROTOTYPE)
+    public static class Counter {}
+
+    @Injectable
+    public static class Consumer {
+        @Inject
+        Provider<Greeter> greeter;
+
+        @Inject
+        Supplier<Greeter> supplier;
+
+        @Inject
+        Provider<Counter> counter;
+    }
+
+    @Test
+    void providerCreatesPrototypeOnEveryGet() {
+        try (DependencyManagerApplication dependencyManager = newDependencyManager(English.class, Counter.class, Consumer.class)) {
+            Consumer consumer = dependencyManager.get(Consumer.class);
+
+            assertNotSame(consumer.counter.get(), consumer.counter.get());
+        }
+    }
+
+    @Test
+    void providerFollowsUnregisterAndRegister() {
+        try (DependencyManagerApplication dependencyManager = newDependencyManager(English.class, Counter.class, Consumer.class)) {
+            Consumer consumer = dependencyManager.get(Consumer.class);
+            assertTrue(consumer.greeter.isAvailable());
+            assertEquals("hello", consumer.greeter.get().greet());
+            assertEquals("hello", consumer.supplier.get().greet());
+
+            assertTrue(dependencyManager.removeDependency(English.class));
+            assertFalse(consumer.greeter.isAvailable());
+            assertNull(consumer.greeter.get());
+            assertNull(consumer.supplier.get());
+
+            dependencyManager.addDependency(Portuguese.class);
+            assertTrue(consumer.greeter.isAvailable());
+            assertEquals("ola", consumer.greeter.get().greet());
+            assertEquals("ola", consumer.supplier.get().greet());
+        }
+    }
+
+    private static DependencyManagerApplication newDependencyManager(Class<?>... classes){
+        DependencyManagerApplication dependencyManager = new DependencyManagerApplication(null, new HashSet<>(List.of(classes)));
+        dependencyManager.initialize();
+        return dependencyManager;
+    }
+}
@@ -0,0 +1,95 @@
+package dtm.dmanager.manager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import dtm.dmanager.enums.DependencyCreatorType;
+
+class ResolutionIndexTest {
+
+    interface Store {}
+
+    static class MemoryStore implements Store {}
+
+    static class DiskStore implements Store {}
+
+    @Test
+    void findsStorageByQualifierAndFallsBackToDefault() {
+        DependencyManagerStorage memory = storage(MemoryStore.class, "default");
+        DependencyManagerStorage disk = storage(DiskStore.class, "disk");
+        ResolutionIndex index = ResolutionIndex.freeze(dependencyMap(Store.class, memory, disk));
+
+        assertSame(disk, index.find(Store.class, "disk"));
+        assertSame(memory, index.find(Store.class, "default"));
+        assertSame(memory, index.find(Store.class, "unknown"));
+        assertNull(index.find(String.class, "default"));
+    }
+
+    @Test
+    void fallsBackToFirstStorageWithoutDefaultQualifier() {
+        DependencyManagerStorage disk = storage(DiskStore.class, "disk");
+        ResolutionIndex index = ResolutionIndex.freeze(dependencyMap(Store.class, disk));
+
+        assertSame(disk, index.find(Store.class, "unknown"));
+    }
+
+    @Test
+    void overlayAddsAndRemovesNodesWithoutTouchingFrozenIndex() {
+        DependencyManagerStorage memory = storage(MemoryStore.class, "default");
+        ResolutionIndex frozen = ResolutionIndex.freeze(dependencyMap(Store.class, memory));
+
+        DependencyManagerStorage disk = storage(DiskStore.class, "default");
+        ResolutionIndex added = frozen.withNodes(dependencyMap(DiskStore.class, disk));
+        assertSame(disk, added.find(DiskStore.class, "default"));
+        assertSame(memory, added.find(Store.class, "default"));
+        assertEquals(2, added.size());
+        assertEquals(frozen.getVersion() + 1, added.getVersion());
+
+        Map<Class<?>, List<DependencyManagerStorage>> removal = new HashMap<>();
+        removal.put(Store.class, new ArrayList<>());
+        ResolutionIndex removed = added.withNodes(removal);
+        assertNull(removed.find(Store.class, "default"));
+        assertNull(removed.getNode(Store.class));
+        assertEquals(1, removed.size());
+
+        assertSame(memory, frozen.find(Store.class, "default"));
+        assertNull(frozen.find(DiskStore.class, "default"));
+    }
+
+    @Test
+    void compactsOverlayIntoBaseNodes() {
+        ResolutionIndex index = ResolutionIndex.freeze(new HashMap<>());
+        List<DependencyManagerStorage> storages = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            DependencyManagerStorage storage = storage(MemoryStore.class, "q" + i);
+            storages.add(storage);
+            index = index.withNodes(dependencyMap(Store.class, storages.toArray(new DependencyManagerStorage[0])));
+        }
+
+        assertEquals(1, index.size());
+        assertEquals(100, index.getNode(Store.class).size());
+        assertSame(storages.get(42), index.find(Store.class, "q42"));
+    }
+
+    private static Map<Class<?>, List<DependencyManagerStorage>> dependencyMap(Class<?> type, DependencyManagerStorage... storages){
+        Map<Class<?>, List<DependencyManagerStorage>> dependencyMap = new HashMap<>();
+        dependencyMap.put(type, new ArrayList<>(List.of(storages)));
+        return dependencyMap;
+    }
+
+    private static DependencyManagerStorage storage(Class<?> dependencyClass, String qualifier){
+        return DependencyManagerStorage.builder()
+            .dependencyClass(dependencyClass)
+            .qualifier(qualifier)
+            .creatorStrategy(DependencyCreatorType.SINGLETON)
+            .build();
+    }
+}
@@ -0,0 +1,120 @@
+package dtm.dmanager.manager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import dtm.dmanager.core.Provider;
+import dtm.dmanager.core.annotations.Inject;
+import dtm.dmanager.core.annotations.Injectable;
+import dtm.dmanager.core.annotations.Lazy;
+import dtm.dmanager.enums.DependencyCreatorType;
+
+class RuntimeRegistrationTest {
+
+    public interface Greeter {
+        String greet();
+    }
+
+    @Injectable
+    public static class English implements Greeter {
+        @Override
+        public String greet() {
+            return "hello";
+        }
+    }
+
+    @Injectable
+    public static class Portuguese implements Greeter {
+        @Override
+        public String greet() {
+            return "ola";
+        }
+    }
+
+    @Injectable
+    public static class LazyConsumer {
+        @Inject
+        @Lazy
+        Greeter greeter;
+
+        @Inject
+        Provider<Greeter> provider;
+    }
+
+    @Injectable(createStrategy = DependencyCreatorType.PROTOTYPE)
+    public static class PrototypeConsumer {
+        @Inject
+        Greeter direct;
+
+        @Inject
+        @Lazy
+        Greeter lazy;
+
+        @Inject
+        Provider<Greeter> provider;
+    }
+
+    @Test
+    void lazyProxyFollowsUnregisterAndRegisterBeforeFirstUse() {
+        try (DependencyManagerApplication dependencyManager = newDependencyManager(English.class, LazyConsumer.class)) {
+            LazyConsumer consumer = dependencyManager.get(LazyConsumer.class);
+
+            assertTrue(dependencyManager.removeDependency(English.class));
+            dependencyManager.addDependency(Portuguese.class);
+
+            assertEquals("ola", consumer.greeter.greet());
+            assertEquals("ola", consumer.provider.get().greet());
+        }
+    }
+
+    @Test
+    void lazyProxyDropsMemoizedTargetOnRegistrationChange() {
+        try (DependencyManagerApplication dependencyManager = newDependencyManager(English.class, LazyConsumer.class)) {
+            LazyConsumer consumer = dependencyManager.get(LazyConsumer.class);
+            assertEquals("hello", consumer.greeter.greet());
+
+            assertTrue(dependencyManager.removeDependency(English.class));
+            assertThrows(IllegalStateException.class, consumer.greeter::greet);
+            assertFalse(consumer.provider.isAvailable());
+
+            dependencyManager.addDependency(Portuguese.class);
+            assertEquals("ola", consumer.greeter.greet());
+            assertTrue(consumer.provider.isAvailable());
+        }
+    }
+
+    @Test
+    void newlyResolvedPointsBindToReplacement() {
+        try (DependencyManagerApplication dependencyManager = newDependencyManager(English.class, PrototypeConsumer.class)) {
+            PrototypeConsumer before = dependencyManager.get(PrototypeConsumer.class);
+            assertEquals("hello", before.direct.greet());
+            assertEquals("hello", before.lazy.greet());
+
+            assertTrue(dependencyManager.removeDependency(English.class));
+            PrototypeConsumer missing = dependencyManager.get(PrototypeConsumer.class);
+            assertNull(missing.direct);
+            assertNull(missing.provider.get());
+
+            dependencyManager.addDependency(Portuguese.class);
+            PrototypeConsumer after = dependencyManager.get(PrototypeConsumer.class);
+            assertEquals("ola", after.direct.greet());
+            assertEquals("ola", after.lazy.greet());
+            assertEquals("ola", after.provider.get().greet());
+            assertEquals("ola", before.lazy.greet());
+        }
+    }
+
+    private static DependencyManagerApplication newDependencyManager(Class<?>... classes){
+        DependencyManagerApplication dependencyManager = new DependencyManagerApplication(null, new HashSet<>(List.of(classes)));
+        dependencyManager.initialize();
+        return dependencyManager;
+    }
+}
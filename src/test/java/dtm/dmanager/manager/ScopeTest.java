@@ -0,0 +1,157 @@
+package dtm.dmanager.manager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import dtm.dmanager.core.ScopeContext;
+import dtm.dmanager.core.annotations.Inject;
+import dtm.dmanager.core.annotations.Injectable;
+import dtm.dmanager.core.annotations.PreDestroy;
+import dtm.dmanager.enums.DependencyCreatorType;
+import dtm.dmanager.exceptions.DependencyManagerInitializeException;
+import dtm.dmanager.exceptions.ScopeNotActiveException;
+
+class ScopeTest {
+
+    static final Queue<String> DESTROYED = new ConcurrentLinkedQueue<>();
+    static final AtomicInteger THREAD_BEANS_DESTROYED = new AtomicInteger();
+
+    @Injectable(createStrategy = DependencyCreatorType.REQUEST)
+    public static class RequestState {
+        @PreDestroy
+        void destroy(){
+            DESTROYED.add("state");
+        }
+    }
+
+    @Injectable(createStrategy = DependencyCreatorType.REQUEST)
+    public static class RequestHandler {
+        @Inject
+        RequestState state;
+
+        @PreDestroy
+        void destroy(){
+            DESTROYED.add("handler");
+        }
+    }
+
+    @Injectable(createStrategy = DependencyCreatorType.THREAD)
+    public static class ThreadBuffer {
+        @PreDestroy
+        void destroy(){
+            THREAD_BEANS_DESTROYED.incrementAndGet();
+        }
+    }
+
+    @Injectable
+    public static class SingletonConsumer {
+        @Inject
+        RequestState state;
+    }
+
+    @Test
+    void requestScopeKeepsOneInstancePerScope() throws Exception {
+        try (DependencyManagerApplication dependencyManager = newDependencyManager(RequestState.class, RequestHandler.class)) {
+            ScopeContext first = dependencyManager.openScope();
+            ScopeContext second = dependencyManager.openScope();
+
+            RequestHandler firstHandler = first.call(() -> dependencyManager.get(RequestHandler.class));
+            assertSame(firstHandler, first.call(() -> dependencyManager.get(RequestHandler.class)));
+            assertSame(firstHandler.state, first.call(() -> dependencyManager.get(RequestState.class)));
+            assertNotSame(firstHandler, second.call(() -> dependencyManager.get(RequestHandler.class)));
+
+            first.close();
+            second.close();
+        }
+    }
+
+    @Test
+    void requestBeanOutsideScopeFails() {
+        try (DependencyManagerApplication dependencyManager = newDependencyManager(RequestState.class)) {
+            assertThrows(ScopeNotActiveException.class, () -> dependencyManager.get(RequestState.class));
+        }
+    }
+
+    @Test
+    void closingScopeDestroysInstancesInReverseCreationOrder() {
+        DESTROYED.clear();
+        try (DependencyManagerApplication dependencyManager = newDependencyManager(RequestState.class, RequestHandler.class)) {
+            ScopeContext scopeContext = dependencyManager.openScope();
+            scopeContext.run(() -> dependencyManager.get(RequestHandler.class));
+            scopeContext.close();
+
+            assertEquals(List.of("handler", "state"), new ArrayList<>(DESTROYED));
+            assertTrue(scopeContext.isClosed());
+            assertThrows(ScopeNotActiveException.class, () -> scopeContext.run(() -> {}));
+        }
+    }
+
+    @Test
+    void closedContextDoesNotSeeSlotsOfReusedArray() {
+        ScopeRegistry scopeRegistry = new ScopeRegistry();
+        int slot = scopeRegistry.getSlot(RequestState.class);
+
+        DependencyScopeContext closed = scopeRegistry.open();
+        assertEquals("first", closed.get(slot, () -> "first"));
+        closed.close();
+
+        DependencyScopeContext reused = scopeRegistry.open();
+        assertEquals("second", reused.get(slot, () -> "second"));
+
+        assertThrows(ScopeNotActiveException.class, () -> closed.get(slot, () -> "third"));
+        reused.close();
+    }
+
+    @Test
+    void narrowerScopeInjectionIsRejected() {
+        DependencyManagerApplication dependencyManager = new DependencyManagerApplication(null, new HashSet<>(List.of(RequestState.class, SingletonConsumer.class)));
+        assertThrows(DependencyManagerInitializeException.class, dependencyManager::initialize);
+        dependencyManager.close();
+    }
+
+    @Test
+    void containerCloseDestroysThreadScopesOfOtherThreads() throws Exception {
+        THREAD_BEANS_DESTROYED.set(0);
+        DependencyManagerApplication dependencyManager = newDependencyManager(ThreadBuffer.class);
+        Thread worker = new Thread(() -> dependencyManager.get(ThreadBuffer.class));
+        worker.start();
+        worker.join();
+        dependencyManager.get(ThreadBuffer.class);
+
+        dependencyManager.close();
+
+        assertEquals(2, THREAD_BEANS_DESTROYED.get());
+    }
+
+    @Test
+    void threadScopesOfFinishedThreadsAreDestroyed() throws Exception {
+        THREAD_BEANS_DESTROYED.set(0);
+        try (DependencyManagerApplication dependencyManager = newDependencyManager(ThreadBuffer.class)) {
+            for (int i = 0; i < 100; i++) {
+                Thread worker = new Thread(() -> dependencyManager.get(ThreadBuffer.class));
+                worker.start();
+                worker.join();
+            }
+
+            assertTrue(THREAD_BEANS_DESTROYED.get() >= 50, "destroyed " + THREAD_BEANS_DESTROYED.get());
+        }
+    }
+
+    private static DependencyManagerApplication newDependencyManager(Class<?>... classes){
+        DependencyManagerApplication dependencyManager = new DependencyManagerApplication(null, new HashSet<>(List.of(classes)));
+        dependencyManager.initialize();
+        return dependencyManager;
+    }
+}
@@ -0,0 +1,60 @@
+package dtm.dmanager.manager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class SingletonHolderTest {
+
+    private static final int THREADS = 32;
+    private static final int ROUNDS = 200;
+
+    @Test
+    void concurrentFirstAccessCreatesExactlyOneInstance() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (int round = 0; round < ROUNDS; round++) {
+                SingletonHolder singletonHolder = new SingletonHolder();
+                AtomicInteger constructions = new AtomicInteger();
+                CountDownLatch ready = new CountDownLatch(THREADS);
+                CountDownLatch start = new CountDownLatch(1);
+
+                List<Future<Object>> results = new ArrayList<>(THREADS);
+                for (int i = 0; i < THREADS; i++) {
+                    results.add(executor.submit(() -> {
+                        ready.countDown();
+                        start.await();
+                        return singletonHolder.get(() -> {
+                            constructions.incrementAndGet();
+                            Thread.yield();
+                            return new Object();
+                        });
+                    }));
+                }
+
+                assertTrue(ready.await(10, TimeUnit.SECONDS));
+                start.countDown();
+
+                Object instance = results.get(0).get(10, TimeUnit.SECONDS);
+                for (Future<Object> result : results) {
+                    assertSame(instance, result.get(10, TimeUnit.SECONDS));
+                }
+                assertEquals(1, constructions.get(), "round " + round);
+                assertSame(instance, singletonHolder.getInstance());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package dtm.dmanager.manager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import dtm.dmanager.core.Provider;
+import dtm.dmanager.core.ValidationReport;
+import dtm.dmanager.core.annotations.Inject;
+import dtm.dmanager.core.annotations.Injectable;
+
+class ValidationTest {
+
+    public interface Handler {}
+
+    public interface Missing {}
+
+    @Injectable
+    public static class Dispatcher {
+        @Inject
+        List<Handler> handlers;
+    }
+
+    @Injectable
+    public static class DispatchingHandler implements Handler {
+        @Inject
+        Dispatcher dispatcher;
+    }
+
+    @Injectable
+    public static class ProvidedHandler implements Handler {
+        @Inject
+        Provider<Dispatcher> dispatcher;
+    }
+
+    @Injectable
+    public static class MissingConsumer {
+        @Inject
+        Missing missing;
+    }
+
+    @Injectable
+    public static class MissingElementConsumer {
+        @Inject
+        List<Missing> missing;
+    }
+
+    @Test
+    void cycleThroughCollectionIsReported() {
+        try (DependencyManagerApplication dependencyManager = newDependencyManager(Dispatcher.class, DispatchingHandler.class)) {
+            ValidationReport report = dependencyManager.validate();
+
+            assertFalse(report.isValid());
+            assertEquals(1, report.getCycles().size());
+            assertEquals(new HashSet<>(List.of(Dispatcher.class, DispatchingHandler.class)), new HashSet<>(report.getCycles().get(0)));
+        }
+    }
+
+    @Test
+    void providerBreaksCycleThroughCollection() {
+        try (DependencyManagerApplication dependencyManager = newDependencyManager(Dispatcher.class, ProvidedHandler.class)) {
+            ValidationReport report = dependencyManager.validate();
+
+            assertTrue(report.isValid(), report.toString());
+        }
+    }
+
+    @Test
+    void missingDependenciesAreReported() {
+        try (DependencyManagerApplication dependencyManager = newDependencyManager(MissingConsumer.class, MissingElementConsumer.class)) {
+            ValidationReport report = dependencyManager.validate();
+
+            assertFalse(report.isValid());
+            assertEquals(2, report.getProblems().size());
+            assertTrue(report.toString().startsWith("Dependency graph validation failed"), report.toString());
+        }
+    }
+
+    @Test
+    void validReportSaysPassed() {
+        try (DependencyManagerApplication dependencyManager = newDependencyManager(Dispatcher.class, ProvidedHandler.class)) {
+            ValidationReport report = dependencyManager.validate();
+
+            assertEquals("Dependency graph validation passed (2 dependencies checked)", report.toString());
+        }
+    }
+
+    private static DependencyManagerApplication newDependencyManager(Class<?>... classes){
+        DependencyManagerApplication dependencyManager = new DependencyManagerApplication(null, new HashSet<>(List.of(classes)));
+        dependencyManager.initialize();
+        return dependencyManager;
+    }
+}